@@ -0,0 +1,99 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * Benchmarks {@link CharMatcher} against {@link IntPredicate} lambdas.
+ *
+ * <p>Each invocation skips through the corpus with eight different predicates, so the call site
+ * inside the reader sees many receiver types, as it would in a real parser.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CharMatcherBenchmark {
+  private final IntPredicate[] predicates = {
+    Character::isWhitespace,
+    Character::isLetter,
+    Character::isDigit,
+    Character::isLetterOrDigit,
+    c -> c == ',' || c == ':',
+    c -> c >= 'a' && c <= 'z',
+    c -> c == '"',
+    c -> c != '[' && c != ']'
+  };
+  private final CharMatcher[] matchers = {
+    CharMatcher.whitespace(),
+    CharMatcher.of(Character::isLetter),
+    CharMatcher.digit(),
+    CharMatcher.of(Character::isLetterOrDigit),
+    CharMatcher.anyOf(',', ':'),
+    CharMatcher.range('a', 'z'),
+    CharMatcher.is('"'),
+    CharMatcher.anyOf('[', ']').negate()
+  };
+
+  @Benchmark
+  public void predicate(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    for(final IntPredicate predicate : this.predicates) {
+      reader.index(0);
+      while(reader.readable()) {
+        reader.skip(predicate);
+        reader.skip();
+      }
+      bh.consume(reader.index());
+    }
+  }
+
+  @Benchmark
+  public void matcher(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    for(final CharMatcher matcher : this.matchers) {
+      reader.index(0);
+      while(reader.readable()) {
+        reader.skip(matcher);
+        reader.skip();
+      }
+      bh.consume(reader.index());
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Input corpora shared by the benchmarks.
+ */
+@State(Scope.Benchmark)
+public class Corpus {
+  private static final String[] WORDS = {"give", "tp", "say", "kill", "effect", "gamemode", "@p", "@a[r=10]", "minecraft:stone", "64", "-12.5", "true", "survival"};
+
+  @Param({"command", "json", "whitespace"})
+  public String kind;
+
+  public String string;
+  public char[] chars;
+
+  @Setup
+  public void setup() {
+    this.string = create(this.kind);
+    this.chars = this.string.toCharArray();
+  }
+
+  /**
+   * Creates a corpus.
+   *
+   * @param kind the corpus kind
+   * @return the corpus
+   */
+  public static @NonNull String create(final @NonNull String kind) {
+    final Random random = new Random(42);
+    switch(kind) {
+      case "command": return command(random);
+      case "json": return json(random);
+      case "whitespace": return whitespace(random);
+      default: throw new IllegalArgumentException(kind);
+    }
+  }
+
+  // a short command line, such as one typed into a chat box
+  private static String command(final Random random) {
+    final StringBuilder sb = new StringBuilder();
+    final int words = 4 + random.nextInt(4);
+    for(int i = 0; i < words; i++) {
+      if(i > 0) sb.append(' ');
+      sb.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return sb.toString();
+  }
+
+  // a long, json-like payload
+  private static String json(final Random random) {
+    final StringBuilder sb = new StringBuilder("{");
+    for(int i = 0; i < 256; i++) {
+      if(i > 0) sb.append(',');
+      sb.append('"').append(WORDS[random.nextInt(WORDS.length)]).append(i).append("\":");
+      switch(random.nextInt(3)) {
+        case 0: sb.append(random.nextInt(100000)); break;
+        case 1: sb.append('"').append(WORDS[random.nextInt(WORDS.length)]).append(" \\\"quoted\\\" value").append('"'); break;
+        default: sb.append('[').append(random.nextDouble()).append(',').append(random.nextBoolean()).append(']'); break;
+      }
+    }
+    return sb.append('}').toString();
+  }
+
+  // input dominated by runs of whitespace between short tokens
+  private static String whitespace(final Random random) {
+    final StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 512; i++) {
+      final int spaces = 1 + random.nextInt(16);
+      for(int j = 0; j < spaces; j++) {
+        sb.append(random.nextInt(8) == 0 ? '\t' : ' ');
+      }
+      sb.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return sb.toString();
+  }
+}
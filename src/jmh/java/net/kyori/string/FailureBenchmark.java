@@ -0,0 +1,81 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of reaching the end of the input, and of failing to parse.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FailureBenchmark {
+  private static final String INPUT = "abc";
+
+  @Benchmark
+  public void nextException(final Blackhole bh) {
+    final StringReader reader = StringReader.create(INPUT);
+    try {
+      while(true) {
+        bh.consume(reader.next());
+      }
+    } catch(final IndexOutOfBoundsException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void tryNext(final Blackhole bh) {
+    final StringReader reader = StringReader.create(INPUT);
+    int c;
+    while((c = reader.tryNext()) != -1) {
+      bh.consume(c);
+    }
+  }
+
+  @Benchmark
+  public Object exceptionStackTrace() {
+    return new StringReaderException("Invalid int at 0..3", StringRange.between(0, 3), true);
+  }
+
+  @Benchmark
+  public Object exceptionNoStackTrace() {
+    return new StringReaderException("Invalid int at 0..3", StringRange.between(0, 3), false);
+  }
+}
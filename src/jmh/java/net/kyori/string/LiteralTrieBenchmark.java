@@ -0,0 +1,115 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks matching a keyword at each word of an input, with a {@link LiteralTrie} and with linear
+ * {@link String#startsWith(String, int)} checks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LiteralTrieBenchmark {
+  private static final String[] PREFIXES = {"", "minecraft:", "set", "get", "re"};
+  private static final String[] STEMS = {"give", "tp", "say", "kill", "effect", "gamemode", "game", "time", "weather", "block", "item", "entity", "score", "team", "tag", "title", "particle", "sound", "spawn", "world", "border", "data", "function", "trigger", "list", "locate", "loot", "op", "pardon", "seed", "stop", "summon", "tell", "xp", "fill", "clone", "clear", "debug", "difficulty", "enchant"};
+
+  @Param({"10", "200"})
+  public int literals;
+
+  private String[] keywords;
+  private LiteralTrie trie;
+  private String string;
+
+  @Setup
+  public void setup() {
+    final List<String> keywords = new ArrayList<>();
+    for(final String prefix : PREFIXES) {
+      for(final String stem : STEMS) {
+        keywords.add(prefix + stem);
+      }
+    }
+    this.keywords = keywords.subList(0, this.literals).toArray(new String[0]);
+    this.trie = LiteralTrie.compile(Arrays.asList(this.keywords));
+    final Random random = new Random(42);
+    final StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 1000; i++) {
+      if(i > 0) sb.append(' ');
+      sb.append(this.keywords[random.nextInt(this.keywords.length)]);
+    }
+    this.string = sb.toString();
+  }
+
+  @Benchmark
+  public void trie(final Blackhole bh) {
+    final StringReader reader = StringReader.create(this.string);
+    while(reader.readable()) {
+      bh.consume(this.trie.match(reader));
+      reader.skipUntil(' ');
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void startsWith(final Blackhole bh) {
+    final StringReader reader = StringReader.create(this.string);
+    final String string = reader.asString();
+    while(reader.readable()) {
+      int id = -1;
+      int length = 0;
+      for(int i = 0; i < this.keywords.length; i++) {
+        final String keyword = this.keywords[i];
+        if(keyword.length() > length && string.startsWith(keyword, reader.index())) {
+          id = i;
+          length = keyword.length();
+        }
+      }
+      reader.skip(length);
+      bh.consume(id);
+      reader.skipUntil(' ');
+      reader.skip();
+    }
+  }
+}
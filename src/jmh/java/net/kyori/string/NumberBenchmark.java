@@ -0,0 +1,110 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for reading numbers, compared with parsing a substring.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberBenchmark {
+  private String ints;
+  private String doubles;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    final StringBuilder ints = new StringBuilder();
+    final StringBuilder doubles = new StringBuilder();
+    for(int i = 0; i < 256; i++) {
+      if(i > 0) {
+        ints.append(',');
+        doubles.append(',');
+      }
+      ints.append(random.nextInt());
+      doubles.append(random.nextInt(100000) / 100d);
+    }
+    this.ints = ints.toString();
+    this.doubles = doubles.toString();
+  }
+
+  @Benchmark
+  public void readInt(final Blackhole bh) {
+    final StringReader reader = StringReader.create(this.ints);
+    while(reader.readable()) {
+      bh.consume(reader.readInt());
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void parseInt(final Blackhole bh) {
+    final StringReader reader = StringReader.create(this.ints);
+    while(reader.readable()) {
+      final int start = reader.index();
+      reader.skip(character -> character != ',');
+      bh.consume(Integer.parseInt(reader.string(start, reader.index())));
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void readDouble(final Blackhole bh) {
+    final StringReader reader = StringReader.create(this.doubles);
+    while(reader.readable()) {
+      bh.consume(reader.readDouble());
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void parseDouble(final Blackhole bh) {
+    final StringReader reader = StringReader.create(this.doubles);
+    while(reader.readable()) {
+      final int start = reader.index();
+      reader.skip(character -> character != ',');
+      bh.consume(Double.parseDouble(reader.string(start, reader.index())));
+      reader.skip();
+    }
+  }
+}
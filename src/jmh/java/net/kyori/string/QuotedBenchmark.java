@@ -0,0 +1,115 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for reading quoted strings, compared with a hand-written loop.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuotedBenchmark {
+  // the percentage of quoted strings containing an escape
+  @Param({"0", "25"})
+  public int escaped;
+  private String string;
+  private ByteBuffer bytes;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    final StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 256; i++) {
+      if(i > 0) sb.append(' ');
+      sb.append("\"some quoted value ").append(i);
+      if(random.nextInt(100) < this.escaped) {
+        sb.append(" with \\\"escapes\\\"");
+      }
+      sb.append('"');
+    }
+    this.string = sb.toString();
+    this.bytes = ByteBuffer.wrap(this.string.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public void readQuoted(final Blackhole bh) {
+    final StringReader reader = StringReader.create(this.string);
+    while(reader.readable()) {
+      bh.consume(reader.readQuoted());
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void readQuotedUtf8(final Blackhole bh) {
+    // the generic implementation, shared by readers other than StringReaderImpl
+    final StringReader reader = Utf8StringReader.create(this.bytes);
+    while(reader.readable()) {
+      bh.consume(reader.readQuoted());
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void loop(final Blackhole bh) {
+    final StringReader reader = StringReader.create(this.string);
+    while(reader.readable()) {
+      reader.skip(); // opening quote
+      final StringBuilder sb = new StringBuilder();
+      while(reader.readable()) {
+        final char c = reader.next();
+        if(c == '"') {
+          break;
+        } else if(c == '\\') {
+          sb.append(reader.next());
+        } else {
+          sb.append(c);
+        }
+      }
+      bh.consume(sb.toString());
+      reader.skip();
+    }
+  }
+}
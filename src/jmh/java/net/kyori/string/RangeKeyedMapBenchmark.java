@@ -0,0 +1,102 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks looking up every word of the corpus in a map, with {@link RangeKeyedMap} and with a {@link HashMap}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeKeyedMapBenchmark {
+  private static final CharMatcher WORD = CharMatcher.range('a', 'z').or(CharMatcher.range('A', 'Z'));
+  private static final String[] KEYWORDS = {"give", "tp", "say", "kill", "effect", "gamemode", "minecraft", "stone", "true", "false", "null", "survival"};
+  private final Map<String, Integer> hashMap = new HashMap<>();
+  private final RangeKeyedMap<Integer> rangeMap;
+
+  public RangeKeyedMapBenchmark() {
+    for(int i = 0; i < KEYWORDS.length; i++) {
+      this.hashMap.put(KEYWORDS[i], i);
+    }
+    this.rangeMap = RangeKeyedMap.of(this.hashMap);
+  }
+
+  @Benchmark
+  public void hashMap(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      final StringRange range = reader.read(WORD);
+      if(range.isEmpty()) {
+        reader.skip();
+      } else {
+        bh.consume(this.hashMap.get(reader.string(range)));
+      }
+    }
+  }
+
+  @Benchmark
+  public void rangeKeyedMap(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      final StringRange range = reader.read(WORD);
+      if(range.isEmpty()) {
+        reader.skip();
+      } else {
+        bh.consume(this.rangeMap.get(reader, range));
+      }
+    }
+  }
+
+  @Benchmark
+  public void rangeKeyedMapIndexes(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      final int start = reader.index();
+      reader.skip(WORD);
+      if(reader.index() == start) {
+        reader.skip();
+      } else {
+        bh.consume(this.rangeMap.get(reader, start, reader.index()));
+      }
+    }
+  }
+}
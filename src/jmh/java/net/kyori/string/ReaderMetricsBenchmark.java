@@ -0,0 +1,80 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the overhead of {@link ReaderMetrics}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReaderMetricsBenchmark {
+  private static final String INPUT = "12 345 6789 \"quoted\" unquoted 1011 1213 1415";
+  private final ReaderMetrics enabled = ReaderMetrics.create();
+  private final ReaderMetrics disabled = ReaderMetrics.disabled();
+
+  @Benchmark
+  public void plain(final Blackhole bh) {
+    read(StringReader.create(INPUT), bh);
+  }
+
+  @Benchmark
+  public void disabled(final Blackhole bh) {
+    read(this.disabled.instrument(StringReader.create(INPUT)), bh);
+  }
+
+  @Benchmark
+  public void enabled(final Blackhole bh) {
+    read(this.enabled.instrument(StringReader.create(INPUT)), bh);
+  }
+
+  private static void read(final StringReader reader, final Blackhole bh) {
+    while(reader.readable()) {
+      final char c = reader.peek();
+      if(c == ' ') {
+        reader.skip();
+      } else if(c >= '0' && c <= '9') {
+        bh.consume(reader.readInt());
+      } else {
+        bh.consume(reader.readQuotedOrUnquoted());
+      }
+    }
+  }
+}
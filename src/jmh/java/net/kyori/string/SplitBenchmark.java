@@ -0,0 +1,87 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Benchmarks summing a large newline-delimited input with one reader, and with {@link StringSource#split(CharMatcher, int) chunks}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SplitBenchmark {
+  private static final CharMatcher NEWLINE = CharMatcher.is('\n');
+  private StringSource source;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    final StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 1_000_000; i++) {
+      sb.append(random.nextInt(1_000_000)).append('\n');
+    }
+    this.source = StringSource.of(sb.toString());
+  }
+
+  @Benchmark
+  public long single() {
+    return sum(this.source.reader());
+  }
+
+  @Benchmark
+  public long sequential() {
+    return StreamSupport.stream(this.source.split(NEWLINE, 1 << 16), false).mapToLong(SplitBenchmark::sum).sum();
+  }
+
+  @Benchmark
+  public long parallel() {
+    return StreamSupport.stream(this.source.split(NEWLINE, 1 << 16), true).mapToLong(SplitBenchmark::sum).sum();
+  }
+
+  private static long sum(final StringReader reader) {
+    long sum = 0;
+    while(reader.readable()) {
+      sum += reader.readInt();
+      reader.skip();
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks matching tokens at each position of the corpus, with {@link StringPattern} and with {@link Pattern}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringPatternBenchmark {
+  private static final String TOKEN = "[a-zA-Z_@:]+|-?\\d+(\\.\\d+)?";
+  private final StringPattern pattern = StringPattern.compile(TOKEN);
+  private final Pattern regex = Pattern.compile(TOKEN);
+
+  @Benchmark
+  public void pattern(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      final long range = this.pattern.match(reader);
+      if(range == -1) {
+        reader.skip();
+      } else {
+        bh.consume(range);
+      }
+    }
+  }
+
+  @Benchmark
+  public void regex(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    final String string = reader.asString();
+    while(reader.readable()) {
+      final Matcher matcher = this.regex.matcher(string).region(reader.index(), string.length());
+      if(matcher.lookingAt()) {
+        bh.consume(matcher.end());
+        reader.index(matcher.end());
+      } else {
+        reader.skip();
+      }
+    }
+  }
+
+  @Benchmark
+  public void regexReused(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    final String string = reader.asString();
+    final Matcher matcher = this.regex.matcher(string);
+    while(reader.readable()) {
+      matcher.region(reader.index(), string.length());
+      if(matcher.lookingAt()) {
+        bh.consume(matcher.end());
+        reader.index(matcher.end());
+      } else {
+        reader.skip();
+      }
+    }
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link StringReader} hot paths.
+ *
+ * <p>Each invocation reads through the entire corpus.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringReaderBenchmark {
+  @Benchmark
+  public void next(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      bh.consume(reader.next());
+    }
+  }
+
+  @Benchmark
+  public void nextCharArray(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.chars);
+    while(reader.readable()) {
+      bh.consume(reader.next());
+    }
+  }
+
+  @Benchmark
+  public void nextUnchecked(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      bh.consume(reader.nextUnchecked());
+    }
+  }
+
+  @Benchmark
+  public void nextUncheckedCharArray(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.chars);
+    while(reader.readable()) {
+      bh.consume(reader.nextUnchecked());
+    }
+  }
+
+  @Benchmark
+  public void peek(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      bh.consume(reader.peek());
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void peekOffset(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable(3)) {
+      bh.consume(reader.peek(2));
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void peekOffsetUnchecked(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable(3)) {
+      bh.consume(reader.peekUnchecked(2));
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void skipPredicate(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      reader.skip(Character::isWhitespace);
+      reader.skip(character -> !Character.isWhitespace(character));
+    }
+    bh.consume(reader.index());
+  }
+
+  @Benchmark
+  public void tokens(final Corpus corpus, final Blackhole bh) {
+    StringReader.create(corpus.string).tokens(CharMatcher.whitespace()).forEach(bh::consume);
+  }
+
+  @Benchmark
+  public void packedTokens(final Corpus corpus, final Blackhole bh) {
+    StringReader.create(corpus.string).packedTokens(CharMatcher.whitespace()).forEach(bh::consume);
+  }
+
+  @Benchmark
+  public void skipWhitespace(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      reader.skipWhitespace();
+      reader.skip();
+    }
+    bh.consume(reader.index());
+  }
+
+  @Benchmark
+  public void skipWhitespaceLoop(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      while(reader.readable() && Character.isWhitespace(reader.peek())) {
+        reader.skip();
+      }
+      reader.skip();
+    }
+    bh.consume(reader.index());
+  }
+
+  @Benchmark
+  public void skipUntil(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      reader.skipUntil(',');
+      reader.skip();
+    }
+    bh.consume(reader.index());
+  }
+
+  @Benchmark
+  public void skipUntilLoop(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      while(reader.readable() && reader.peek() != ',') {
+        reader.skip();
+      }
+      reader.skip();
+    }
+    bh.consume(reader.index());
+  }
+
+  @Benchmark
+  public void skipUntilAny(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      reader.skipUntilAny(',', ':', '"', '[');
+      reader.skip();
+    }
+    bh.consume(reader.index());
+  }
+
+  @Benchmark
+  public void skipUntilAnyPredicate(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      reader.skip(character -> character != ',' && character != ':' && character != '"' && character != '[');
+      reader.skip();
+    }
+    bh.consume(reader.index());
+  }
+
+  @Benchmark
+  public void stringRange(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      reader.skip(Character::isWhitespace);
+      final int start = reader.index();
+      reader.skip(character -> !Character.isWhitespace(character));
+      bh.consume(reader.string(StringRange.between(start, reader.index())).hashCode());
+    }
+  }
+
+  @Benchmark
+  public void viewRange(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      reader.skip(Character::isWhitespace);
+      final int start = reader.index();
+      reader.skip(character -> !Character.isWhitespace(character));
+      bh.consume(reader.view(StringRange.between(start, reader.index())).hashCode());
+    }
+  }
+
+  @Benchmark
+  public void copy(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      bh.consume(reader.copy());
+      reader.skip();
+    }
+  }
+
+  @Benchmark
+  public void backtrackCopy(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      final StringReader branch = reader.copy();
+      branch.skip(Character::isLetter);
+      if(branch.readable() && branch.peek() == ':') {
+        reader.index(branch.index());
+      }
+      bh.consume(reader.next());
+    }
+  }
+
+  @Benchmark
+  public void backtrackMark(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = StringReader.create(corpus.string);
+    while(reader.readable()) {
+      final long mark = reader.mark();
+      reader.skip(Character::isLetter);
+      if(!reader.readable() || reader.peek() != ':') {
+        reader.reset(mark);
+      }
+      bh.consume(reader.next());
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading a short input with a new reader, and with a reader from a {@link StringReaderPool}.
+ *
+ * <p>The reader is passed to the blackhole, as a reader handed to a parser would escape.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringReaderPoolBenchmark {
+  private final StringReaderPool bounded = StringReaderPool.bounded(16);
+  private final StringReaderPool threadLocal = StringReaderPool.threadLocal();
+
+  @Benchmark
+  public void create(final Corpus corpus, final Blackhole bh) {
+    read(StringReader.create(corpus.string), bh);
+  }
+
+  @Benchmark
+  public void bounded(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = this.bounded.acquire(corpus.string);
+    read(reader, bh);
+    this.bounded.release(reader);
+  }
+
+  @Benchmark
+  public void threadLocal(final Corpus corpus, final Blackhole bh) {
+    final StringReader reader = this.threadLocal.acquire(corpus.string);
+    read(reader, bh);
+    this.threadLocal.release(reader);
+  }
+
+  private static void read(final StringReader reader, final Blackhole bh) {
+    bh.consume(reader);
+    reader.skipUntil(' ');
+    bh.consume(reader.index());
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/* package */ final class BoundedStringReaderPool implements StringReaderPool {
+  private static final char[] EMPTY = new char[0];
+  private final AtomicReferenceArray<StringReaderImpl> strings;
+  private final AtomicReferenceArray<CharArrayReaderImpl> arrays;
+
+  /* package */ BoundedStringReaderPool(final @NonNegative int capacity) {
+    if(capacity <= 0) {
+      throw new IllegalArgumentException("capacity " + capacity + " must be positive");
+    }
+    this.strings = new AtomicReferenceArray<>(capacity);
+    this.arrays = new AtomicReferenceArray<>(capacity);
+  }
+
+  @Override
+  public @NonNull StringReader acquire(final @NonNull String string) {
+    StringReaderImpl reader = take(this.strings);
+    if(reader == null) {
+      reader = new StringReaderImpl(string);
+    } else {
+      reader.reset(string);
+    }
+    reader.pool = this;
+    return reader;
+  }
+
+  @Override
+  public @NonNull StringReader acquire(final char @NonNull [] chars, final @NonNegative int offset, final @NonNegative int length) {
+    CharArrayReaderImpl reader = take(this.arrays);
+    if(reader == null) {
+      reader = new CharArrayReaderImpl(chars, offset, length);
+    } else {
+      try {
+        reader.reset(chars, offset, length);
+      } catch(final IndexOutOfBoundsException e) {
+        put(this.arrays, reader);
+        throw e;
+      }
+    }
+    reader.pool = this;
+    return reader;
+  }
+
+  @Override
+  public void release(final @NonNull StringReader reader) {
+    // a reader is only taken back once, and only by the pool it was acquired from
+    // inputs are dropped, so the pool does not retain them
+    if(reader.getClass() == StringReaderImpl.class) {
+      final StringReaderImpl string = (StringReaderImpl) reader;
+      if(string.pool != this) return;
+      string.pool = null;
+      string.reset("");
+      put(this.strings, string);
+    } else if(reader instanceof CharArrayReaderImpl) {
+      final CharArrayReaderImpl array = (CharArrayReaderImpl) reader;
+      if(array.pool != this) return;
+      array.pool = null;
+      array.reset(EMPTY, 0, 0);
+      put(this.arrays, array);
+    }
+  }
+
+  private static <T> @Nullable T take(final @NonNull AtomicReferenceArray<T> readers) {
+    for(int i = 0, length = readers.length(); i < length; i++) {
+      if(readers.get(i) != null) {
+        final T reader = readers.getAndSet(i, null);
+        if(reader != null) return reader;
+      }
+    }
+    return null;
+  }
+
+  private static <T> void put(final @NonNull AtomicReferenceArray<T> readers, final @NonNull T reader) {
+    for(int i = 0, length = readers.length(); i < length; i++) {
+      if(readers.get(i) == null && readers.compareAndSet(i, null, reader)) return;
+    }
+  }
+}
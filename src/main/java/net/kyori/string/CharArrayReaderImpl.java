@@ -0,0 +1,461 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.CharBuffer;
+import java.util.function.IntPredicate;
+
+/* package */ final class CharArrayReaderImpl implements StringReader {
+  private char[] chars;
+  private int offset;
+  private int length;
+  private int index;
+  private @Nullable String string;
+  private @Nullable CharSequence sequence;
+  private @Nullable StringBuilder scratch;
+  // created on the first line lookup or copy, so a reader that needs neither does not allocate one
+  private LineIndex.@Nullable Holder lines;
+  // the source this reader was created from, which owns its indexes
+  private @Nullable StringSourceImpl source;
+  // the pool this reader was acquired from, until it is released
+  /* package */ @Nullable StringReaderPool pool;
+
+  /* package */ CharArrayReaderImpl(final char @NonNull [] chars, final @NonNegative int offset, final @NonNegative int length) {
+    this(chars, offset, length, null);
+  }
+
+  /* package */ CharArrayReaderImpl(final char @NonNull [] chars, final @NonNegative int offset, final @NonNegative int length, final @Nullable StringSourceImpl source) {
+    checkBounds(chars, offset, length);
+    this.chars = chars;
+    this.offset = offset;
+    this.length = length;
+    this.source = source;
+  }
+
+  private static void checkBounds(final char @NonNull [] chars, final int offset, final int length) {
+    if(offset < 0 || length < 0 || offset > chars.length - length) {
+      throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + chars.length);
+    }
+  }
+
+  private CharArrayReaderImpl(final @NonNull CharArrayReaderImpl reader) {
+    this.chars = reader.chars;
+    this.offset = reader.offset;
+    this.length = reader.length;
+    this.index = reader.index;
+    this.string = reader.string;
+    this.sequence = reader.sequence;
+    this.lines = reader.source == null ? reader.lineHolder() : null;
+    this.source = reader.source;
+  }
+
+  // resets this reader onto a new array, keeping its buffers
+  /* package */ void reset(final char @NonNull [] chars, final @NonNegative int offset, final @NonNegative int length) {
+    checkBounds(chars, offset, length);
+    this.chars = chars;
+    this.offset = offset;
+    this.length = length;
+    this.index = 0;
+    this.string = null;
+    this.sequence = null;
+    this.lines = null;
+    this.source = null;
+  }
+
+  @Override
+  public @NonNull String asString() {
+    String string = this.string;
+    if(string == null) {
+      string = this.string = new String(this.chars, this.offset, this.length);
+    }
+    return string;
+  }
+
+  // the characters as a sequence, indexed the same way as this reader
+  private @NonNull CharSequence sequence() {
+    CharSequence sequence = this.sequence;
+    if(sequence == null) {
+      sequence = this.sequence = CharBuffer.wrap(this.chars, this.offset, this.length).slice();
+    }
+    return sequence;
+  }
+
+  @Override
+  public @NonNull String string(final @NonNegative int start, final @NonNegative int end) {
+    this.checkRange(start, end);
+    return new String(this.chars, this.offset + start, end - start);
+  }
+
+  @Override
+  public @NonNull StringView view(final @NonNegative int start, final @NonNegative int end) {
+    return StringView.of(this.sequence(), start, end);
+  }
+
+  @Override
+  public @NonNegative int length() {
+    return this.length;
+  }
+
+  @Override
+  public @NonNegative int remaining() {
+    return this.length - this.index;
+  }
+
+  @Override
+  public @NonNegative int index() {
+    return this.index;
+  }
+
+  @Override
+  public @NonNegative int index(final @NonNegative int index) {
+    final int oldIndex = this.index;
+    this.index = index;
+    return oldIndex;
+  }
+
+  @Override
+  public boolean readable(final @NonNegative int length) {
+    return this.index + length <= this.length;
+  }
+
+  @Override
+  public void skip() {
+    this.index++;
+  }
+
+  @Override
+  public void skip(final int n) {
+    if(n > 0) {
+      this.index += n;
+    }
+  }
+
+  @Override
+  public void skip(final @NonNull IntPredicate predicate) {
+    final char[] chars = this.chars;
+    final int offset = this.offset;
+    final int length = this.length;
+    int index = this.index;
+    while(index < length && predicate.test(chars[offset + index])) {
+      index++;
+    }
+    this.index = index;
+  }
+
+  @Override
+  public void skip(final @NonNull CharMatcher matcher) {
+    final char[] chars = this.chars;
+    final int offset = this.offset;
+    final int length = this.length;
+    int index = this.index;
+    while(index < length && matcher.matches(chars[offset + index])) {
+      index++;
+    }
+    this.index = index;
+  }
+
+  @Override
+  public void skipWhitespace() {
+    final char[] chars = this.chars;
+    final int offset = this.offset;
+    final int length = this.length;
+    int index = this.index;
+    while(index < length && Character.isWhitespace(chars[offset + index])) {
+      index++;
+    }
+    this.index = index;
+  }
+
+  @Override
+  public void skipUntil(final char character) {
+    if(this.index < this.length) {
+      final int index = this.indexOf(character);
+      this.index = index == -1 ? this.length : index;
+    }
+  }
+
+  @Override
+  public void skipUntilAny(final char @NonNull ... characters) {
+    if(this.index < this.length) {
+      final int index = this.indexOfAny(characters);
+      this.index = index == -1 ? this.length : index;
+    }
+  }
+
+  @Override
+  public int indexOf(final char character) {
+    final int index = CharScanning.indexOf(this.chars, this.offset + Math.max(this.index, 0), this.offset + this.length, character);
+    return index == -1 ? -1 : index - this.offset;
+  }
+
+  @Override
+  public int indexOfAny(final char @NonNull ... characters) {
+    final int index = CharScanning.indexOfAny(this.chars, this.offset + Math.max(this.index, 0), this.offset + this.length, characters);
+    return index == -1 ? -1 : index - this.offset;
+  }
+
+  @Override
+  public int readInt() {
+    return (int) this.readInteger(Integer.MIN_VALUE, Integer.MAX_VALUE, "integer");
+  }
+
+  @Override
+  public long readLong() {
+    return this.readInteger(Long.MIN_VALUE, Long.MAX_VALUE, "long");
+  }
+
+  private long readInteger(final long min, final long max, final @NonNull String type) {
+    final CharSequence sequence = this.sequence();
+    final int start = this.index;
+    final int end = Numbers.integerEnd(sequence, start, this.length);
+    try {
+      final long value = Numbers.parseInteger(sequence, start, end, min, max);
+      this.index = end;
+      return value;
+    } catch(final NumberFormatException e) {
+      throw Numbers.invalid(type, start, end);
+    }
+  }
+
+  @Override
+  public double readDouble() {
+    final CharSequence sequence = this.sequence();
+    final int start = this.index;
+    final int end = Numbers.decimalEnd(sequence, start, this.length);
+    try {
+      final double value = Numbers.parseDouble(sequence, start, end);
+      this.index = end;
+      return value;
+    } catch(final NumberFormatException e) {
+      throw Numbers.invalid("double", start, end);
+    }
+  }
+
+  @Override
+  public @NonNull String readUnquoted() {
+    final char[] chars = this.chars;
+    final int offset = this.offset;
+    final int length = this.length;
+    final int start = this.index;
+    int end = start;
+    while(end < length && !Character.isWhitespace(chars[offset + end])) {
+      end++;
+    }
+    if(end <= start) {
+      return "";
+    }
+    this.index = end;
+    return new String(chars, offset + start, end - start);
+  }
+
+  @Override
+  public @NonNull String readQuoted(final char quote, final char escape) {
+    final char[] chars = this.chars;
+    final int offset = this.offset;
+    final int length = this.length;
+    final int start = this.index;
+    if(start < 0 || start >= length || chars[offset + start] != quote) {
+      throw QuotedStrings.expectedQuote(start);
+    }
+    // fast path: no escapes, so the content can be copied directly
+    int index = start + 1;
+    while(index < length) {
+      final char c = chars[offset + index];
+      if(c == quote) {
+        this.index = index + 1;
+        return new String(chars, offset + start + 1, index - start - 1);
+      } else if(c == escape) {
+        return this.readEscaped(start, index, quote, escape);
+      }
+      index++;
+    }
+    throw QuotedStrings.unterminated(start, length);
+  }
+
+  private @NonNull String readEscaped(final int start, int index, final char quote, final char escape) {
+    final char[] chars = this.chars;
+    final int offset = this.offset;
+    final int length = this.length;
+    StringBuilder sb = this.scratch;
+    if(sb == null) {
+      sb = this.scratch = new StringBuilder();
+    }
+    sb.setLength(0);
+    sb.append(chars, offset + start + 1, index - start - 1);
+    while(index < length) {
+      final char c = chars[offset + index++];
+      if(c == quote) {
+        this.index = index;
+        return sb.toString();
+      } else if(c == escape) {
+        if(index >= length) break;
+        final char escaped = chars[offset + index++];
+        if(escaped != quote && escaped != escape) {
+          throw QuotedStrings.invalidEscape(index - 2);
+        }
+        sb.append(escaped);
+      } else {
+        sb.append(c);
+      }
+    }
+    throw QuotedStrings.unterminated(start, length);
+  }
+
+  @Override
+  public char peek() {
+    final int index = this.index;
+    if(index < 0 || index >= this.length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return this.chars[this.offset + index];
+  }
+
+  @Override
+  public char peek(final int offset) {
+    final int index = this.index + offset;
+    if(index < 0 || index >= this.length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return this.chars[this.offset + index];
+  }
+
+  @Override
+  public char next() {
+    final int index = this.index;
+    if(index < 0 || index >= this.length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    this.index = index + 1;
+    return this.chars[this.offset + index];
+  }
+
+  @Override
+  public int tryPeek() {
+    final int index = this.index;
+    return index >= 0 && index < this.length ? this.chars[this.offset + index] : -1;
+  }
+
+  @Override
+  public int tryPeek(final @NonNegative int offset) {
+    final int index = this.index + offset;
+    return index >= 0 && index < this.length ? this.chars[this.offset + index] : -1;
+  }
+
+  @Override
+  public int tryNext() {
+    final int index = this.index;
+    if(index < 0 || index >= this.length) return -1;
+    this.index = index + 1;
+    return this.chars[this.offset + index];
+  }
+
+  @Override
+  public char peekUnchecked() {
+    return this.chars[this.offset + this.index];
+  }
+
+  @Override
+  public char peekUnchecked(final @NonNegative int offset) {
+    return this.chars[this.offset + this.index + offset];
+  }
+
+  @Override
+  public char nextUnchecked() {
+    return this.chars[this.offset + this.index++];
+  }
+
+  @Override
+  public int hash(final @NonNegative int start, final @NonNegative int end) {
+    this.checkRange(start, end);
+    final char[] chars = this.chars;
+    int hash = 0;
+    for(int i = this.offset + start, last = this.offset + end; i < last; i++) {
+      hash = 31 * hash + chars[i];
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean contentEquals(final @NonNegative int start, final @NonNegative int end, final @NonNull CharSequence sequence) {
+    this.checkRange(start, end);
+    final int length = end - start;
+    if(sequence.length() != length) return false;
+    final char[] chars = this.chars;
+    final int offset = this.offset + start;
+    for(int i = 0; i < length; i++) {
+      if(chars[offset + i] != sequence.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public @NonNull String intern(final @NonNull StringRange range, final @NonNull TokenInterner interner) {
+    this.checkRange(range.start(), range.end());
+    return interner.intern(this.chars, this.offset + range.start(), this.offset + range.end());
+  }
+
+  @Override
+  public @Positive int lineOf(final @NonNegative int index) {
+    return this.lines().line(index) + 1;
+  }
+
+  @Override
+  public @Positive int columnOf(final @NonNegative int index) {
+    return this.lines().column(index) + 1;
+  }
+
+  private @NonNull LineIndex lines() {
+    if(this.source != null) return this.source.lines();
+    final LineIndex.Holder holder = this.lineHolder();
+    LineIndex lines = holder.index;
+    if(lines == null) {
+      lines = holder.index = LineIndex.of(this.sequence());
+    }
+    return lines;
+  }
+
+  private LineIndex.@NonNull Holder lineHolder() {
+    LineIndex.Holder holder = this.lines;
+    if(holder == null) {
+      holder = this.lines = new LineIndex.Holder();
+    }
+    return holder;
+  }
+
+  @Override
+  public @NonNull StringReader copy() {
+    return new CharArrayReaderImpl(this);
+  }
+
+  private void checkRange(final int start, final int end) {
+    if(start < 0 || end > this.length || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.length);
+    }
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A compiled character predicate.
+ *
+ * <p>Matchers are compiled into a lookup table for ascii characters, which is tested with a shift and
+ * a mask, and a fallback predicate for all other characters. Combining matchers with {@link #and(CharMatcher)},
+ * {@link #or(CharMatcher)} and {@link #negate()} combines their tables, so the result is still a single lookup
+ * for ascii characters.</p>
+ *
+ * <p>As this is a final class, readers can call {@link #matches(char)} without a virtual call, unlike an
+ * arbitrary {@link IntPredicate}.</p>
+ */
+public final class CharMatcher implements IntPredicate {
+  private static final IntPredicate NONE = value -> false;
+  private static final IntPredicate ALL = value -> true;
+  private static final CharMatcher ANY = new CharMatcher(-1L, -1L, ALL);
+  private static final CharMatcher NOTHING = new CharMatcher(0L, 0L, NONE);
+  private static final CharMatcher WHITESPACE = of(Character::isWhitespace);
+  private static final CharMatcher DIGIT = range('0', '9');
+  // the lookup table - characters 0 to 63 in low, and 64 to 127 in high
+  private final long low;
+  private final long high;
+  // the predicate for characters outside of ascii
+  private final IntPredicate other;
+
+  private CharMatcher(final long low, final long high, final @NonNull IntPredicate other) {
+    this.low = low;
+    this.high = high;
+    this.other = other;
+  }
+
+  /**
+   * Gets a matcher that matches any character.
+   *
+   * @return a matcher
+   */
+  public static @NonNull CharMatcher any() {
+    return ANY;
+  }
+
+  /**
+   * Gets a matcher that matches no characters.
+   *
+   * @return a matcher
+   */
+  public static @NonNull CharMatcher none() {
+    return NOTHING;
+  }
+
+  /**
+   * Gets a matcher that matches {@link Character#isWhitespace(char) whitespace}.
+   *
+   * @return a matcher
+   */
+  public static @NonNull CharMatcher whitespace() {
+    return WHITESPACE;
+  }
+
+  /**
+   * Gets a matcher that matches the ascii digits, {@code 0} to {@code 9}.
+   *
+   * @return a matcher
+   */
+  public static @NonNull CharMatcher digit() {
+    return DIGIT;
+  }
+
+  /**
+   * Creates a matcher that matches {@code character}.
+   *
+   * @param character the character
+   * @return a matcher
+   */
+  public static @NonNull CharMatcher is(final char character) {
+    return anyOf(character);
+  }
+
+  /**
+   * Creates a matcher that matches any of {@code characters}.
+   *
+   * @param characters the characters
+   * @return a matcher
+   */
+  public static @NonNull CharMatcher anyOf(final char @NonNull ... characters) {
+    if(CharScanning.isAscii(characters)) {
+      return new CharMatcher(CharScanning.lowMask(characters), CharScanning.highMask(characters), NONE);
+    }
+    final char[] copy = characters.clone();
+    return new CharMatcher(CharScanning.lowMask(characters), CharScanning.highMask(characters), value -> value <= Character.MAX_VALUE && CharScanning.contains(copy, (char) value));
+  }
+
+  /**
+   * Creates a matcher that matches any of the characters in {@code characters}.
+   *
+   * @param characters the characters
+   * @return a matcher
+   */
+  public static @NonNull CharMatcher anyOf(final @NonNull CharSequence characters) {
+    return anyOf(characters.toString().toCharArray());
+  }
+
+  /**
+   * Creates a matcher that matches characters in range of {@code from} to {@code to}, inclusive.
+   *
+   * @param from the first character
+   * @param to the last character
+   * @return a matcher
+   * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+   */
+  public static @NonNull CharMatcher range(final char from, final char to) {
+    if(from > to) {
+      throw new IllegalArgumentException("from " + (int) from + " is greater than to " + (int) to);
+    }
+    return of(value -> value >= from && value <= to);
+  }
+
+  /**
+   * Creates a matcher from {@code predicate}.
+   *
+   * <p>The predicate is evaluated for each ascii character to build the lookup table, and is only called
+   * for characters outside of ascii after that.</p>
+   *
+   * @param predicate the predicate
+   * @return a matcher
+   */
+  public static @NonNull CharMatcher of(final @NonNull IntPredicate predicate) {
+    if(predicate instanceof CharMatcher) {
+      return (CharMatcher) predicate;
+    }
+    long low = 0;
+    long high = 0;
+    for(int c = 0; c < 64; c++) {
+      if(predicate.test(c)) low |= 1L << c;
+    }
+    for(int c = 64; c < 128; c++) {
+      if(predicate.test(c)) high |= 1L << c;
+    }
+    return new CharMatcher(low, high, predicate);
+  }
+
+  /**
+   * Tests if {@code character} matches.
+   *
+   * @param character the character
+   * @return {@code true} if the character matches, {@code false} otherwise
+   */
+  public boolean matches(final char character) {
+    if(character < 128) {
+      return (((character < 64 ? this.low : this.high) >>> character) & 1) != 0;
+    }
+    return this.other.test(character);
+  }
+
+  @Override
+  public boolean test(final int value) {
+    if(value >= 0 && value < 128) {
+      return (((value < 64 ? this.low : this.high) >>> value) & 1) != 0;
+    }
+    return this.other.test(value);
+  }
+
+  /**
+   * Creates a matcher that matches characters matched by both this matcher and {@code that}.
+   *
+   * @param that the other matcher
+   * @return a matcher
+   */
+  public @NonNull CharMatcher and(final @NonNull CharMatcher that) {
+    final IntPredicate other;
+    if(this.other == NONE || that.other == ALL) {
+      other = this.other;
+    } else if(that.other == NONE || this.other == ALL) {
+      other = that.other;
+    } else {
+      other = this.other.and(that.other);
+    }
+    return new CharMatcher(this.low & that.low, this.high & that.high, other);
+  }
+
+  /**
+   * Creates a matcher that matches characters matched by either this matcher or {@code that}.
+   *
+   * @param that the other matcher
+   * @return a matcher
+   */
+  public @NonNull CharMatcher or(final @NonNull CharMatcher that) {
+    final IntPredicate other;
+    if(this.other == ALL || that.other == NONE) {
+      other = this.other;
+    } else if(that.other == ALL || this.other == NONE) {
+      other = that.other;
+    } else {
+      other = this.other.or(that.other);
+    }
+    return new CharMatcher(this.low | that.low, this.high | that.high, other);
+  }
+
+  /**
+   * Creates a matcher that matches characters not matched by this matcher.
+   *
+   * @return a matcher
+   */
+  @Override
+  public @NonNull CharMatcher negate() {
+    final IntPredicate other;
+    if(this.other == NONE) {
+      other = ALL;
+    } else if(this.other == ALL) {
+      other = NONE;
+    } else {
+      other = this.other.negate();
+    }
+    return new CharMatcher(~this.low, ~this.high, other);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/*
+ * Scanning for any of a set of characters.
+ *
+ * The set is compiled into a 128-bit mask of ascii characters, split into two longs, so that
+ * testing a character is a shift and a mask rather than a comparison against each character
+ * in the set. Characters outside of ascii fall back to a linear search of the set.
+ */
+/* package */ final class CharScanning {
+  private CharScanning() {
+  }
+
+  /* package */ static long lowMask(final char @NonNull [] chars) {
+    long mask = 0;
+    for(final char c : chars) {
+      if(c < 64) mask |= 1L << c;
+    }
+    return mask;
+  }
+
+  /* package */ static long highMask(final char @NonNull [] chars) {
+    long mask = 0;
+    for(final char c : chars) {
+      // shifts only use the lower six bits, so this is c - 64
+      if(c >= 64 && c < 128) mask |= 1L << c;
+    }
+    return mask;
+  }
+
+  /* package */ static boolean isAscii(final char @NonNull [] chars) {
+    for(final char c : chars) {
+      if(c >= 128) return false;
+    }
+    return true;
+  }
+
+  /* package */ static boolean contains(final char @NonNull [] chars, final char c) {
+    for(final char d : chars) {
+      if(c == d) return true;
+    }
+    return false;
+  }
+
+  /* package */ static boolean matches(final long low, final long high, final char c) {
+    return (((c < 64 ? low : high) >>> c) & 1) != 0;
+  }
+
+  /* package */ static int indexOf(final @NonNull CharSequence sequence, final int from, final @NonNegative int to, final char c) {
+    for(int i = Math.max(from, 0); i < to; i++) {
+      if(sequence.charAt(i) == c) return i;
+    }
+    return -1;
+  }
+
+  /* package */ static int indexOfAny(final @NonNull CharSequence sequence, final int from, final @NonNegative int to, final char @NonNull [] chars) {
+    if(chars.length == 1) {
+      return indexOf(sequence, from, to, chars[0]);
+    }
+    final long low = lowMask(chars);
+    final long high = highMask(chars);
+    final boolean ascii = isAscii(chars);
+    for(int i = Math.max(from, 0); i < to; i++) {
+      final char c = sequence.charAt(i);
+      if(c < 128) {
+        if(matches(low, high, c)) return i;
+      } else if(!ascii && contains(chars, c)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /* package */ static int indexOf(final char @NonNull [] array, final int from, final @NonNegative int to, final char c) {
+    for(int i = Math.max(from, 0); i < to; i++) {
+      if(array[i] == c) return i;
+    }
+    return -1;
+  }
+
+  /* package */ static int indexOfAny(final char @NonNull [] array, final int from, final @NonNegative int to, final char @NonNull [] chars) {
+    if(chars.length == 1) {
+      return indexOf(array, from, to, chars[0]);
+    }
+    final long low = lowMask(chars);
+    final long high = highMask(chars);
+    final boolean ascii = isAscii(chars);
+    for(int i = Math.max(from, 0); i < to; i++) {
+      final char c = array[i];
+      if(c < 128) {
+        if(matches(low, high, c)) return i;
+      } else if(!ascii && contains(chars, c)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
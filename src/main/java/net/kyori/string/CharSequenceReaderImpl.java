@@ -0,0 +1,322 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.IntPredicate;
+
+/* package */ final class CharSequenceReaderImpl implements StringReader {
+  private final CharSequence sequence;
+  private int index;
+  private @Nullable String string;
+  private @Nullable StringBuilder scratch;
+  private final LineIndex.Holder lines;
+  // the source this reader was created from, which owns its indexes
+  private final @Nullable StringSourceImpl source;
+
+  /* package */ CharSequenceReaderImpl(final @NonNull CharSequence sequence) {
+    this(sequence, null);
+  }
+
+  /* package */ CharSequenceReaderImpl(final @NonNull CharSequence sequence, final @Nullable StringSourceImpl source) {
+    this.sequence = sequence;
+    this.source = source;
+    this.lines = new LineIndex.Holder();
+  }
+
+  private CharSequenceReaderImpl(final @NonNull CharSequenceReaderImpl reader) {
+    this.sequence = reader.sequence;
+    this.index = reader.index;
+    this.string = reader.string;
+    this.lines = reader.lines;
+    this.source = reader.source;
+  }
+
+  @Override
+  public @NonNull String asString() {
+    String string = this.string;
+    if(string == null) {
+      string = this.string = this.sequence.toString();
+    }
+    return string;
+  }
+
+  @Override
+  public @NonNull String string(final @NonNegative int start, final @NonNegative int end) {
+    return this.sequence.subSequence(start, end).toString();
+  }
+
+  @Override
+  public @NonNull String readQuoted(final char quote, final char escape) {
+    StringBuilder scratch = this.scratch;
+    if(scratch == null) {
+      scratch = this.scratch = new StringBuilder();
+    }
+    return QuotedStrings.readQuoted(this, quote, escape, scratch);
+  }
+
+  @Override
+  public @NonNull StringView view(final @NonNegative int start, final @NonNegative int end) {
+    return StringView.of(this.sequence, start, end);
+  }
+
+  @Override
+  public @NonNegative int length() {
+    return this.sequence.length();
+  }
+
+  @Override
+  public @NonNegative int remaining() {
+    return this.sequence.length() - this.index;
+  }
+
+  @Override
+  public @NonNegative int index() {
+    return this.index;
+  }
+
+  @Override
+  public @NonNegative int index(final @NonNegative int index) {
+    final int oldIndex = this.index;
+    this.index = index;
+    return oldIndex;
+  }
+
+  @Override
+  public boolean readable(final @NonNegative int length) {
+    return this.index + length <= this.sequence.length();
+  }
+
+  @Override
+  public void skip() {
+    this.index++;
+  }
+
+  @Override
+  public void skip(final int n) {
+    if(n > 0) {
+      this.index += n;
+    }
+  }
+
+  @Override
+  public void skip(final @NonNull IntPredicate predicate) {
+    final CharSequence sequence = this.sequence;
+    final int length = sequence.length();
+    int index = this.index;
+    while(index < length && predicate.test(sequence.charAt(index))) {
+      index++;
+    }
+    this.index = index;
+  }
+
+  @Override
+  public void skip(final @NonNull CharMatcher matcher) {
+    final CharSequence sequence = this.sequence;
+    final int length = sequence.length();
+    int index = this.index;
+    while(index < length && matcher.matches(sequence.charAt(index))) {
+      index++;
+    }
+    this.index = index;
+  }
+
+  @Override
+  public void skipUntilAny(final char @NonNull ... characters) {
+    final int length = this.sequence.length();
+    if(this.index < length) {
+      final int index = this.indexOfAny(characters);
+      this.index = index == -1 ? length : index;
+    }
+  }
+
+  @Override
+  public int indexOf(final char character) {
+    return CharScanning.indexOf(this.sequence, this.index, this.sequence.length(), character);
+  }
+
+  @Override
+  public int indexOfAny(final char @NonNull ... characters) {
+    return CharScanning.indexOfAny(this.sequence, this.index, this.sequence.length(), characters);
+  }
+
+  @Override
+  public int readInt() {
+    return (int) this.readInteger(Integer.MIN_VALUE, Integer.MAX_VALUE, "integer");
+  }
+
+  @Override
+  public long readLong() {
+    return this.readInteger(Long.MIN_VALUE, Long.MAX_VALUE, "long");
+  }
+
+  private long readInteger(final long min, final long max, final @NonNull String type) {
+    final int start = this.index;
+    final int end = Numbers.integerEnd(this.sequence, start, this.sequence.length());
+    try {
+      final long value = Numbers.parseInteger(this.sequence, start, end, min, max);
+      this.index = end;
+      return value;
+    } catch(final NumberFormatException e) {
+      throw Numbers.invalid(type, start, end);
+    }
+  }
+
+  @Override
+  public double readDouble() {
+    final int start = this.index;
+    final int end = Numbers.decimalEnd(this.sequence, start, this.sequence.length());
+    try {
+      final double value = Numbers.parseDouble(this.sequence, start, end);
+      this.index = end;
+      return value;
+    } catch(final NumberFormatException e) {
+      throw Numbers.invalid("double", start, end);
+    }
+  }
+
+  @Override
+  public char peek() {
+    final int index = this.index;
+    if(index < 0 || index >= this.sequence.length()) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return this.sequence.charAt(index);
+  }
+
+  @Override
+  public char peek(final int offset) {
+    final int index = this.index + offset;
+    if(index < 0 || index >= this.sequence.length()) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return this.sequence.charAt(index);
+  }
+
+  @Override
+  public char next() {
+    final int index = this.index;
+    if(index < 0 || index >= this.sequence.length()) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    this.index = index + 1;
+    return this.sequence.charAt(index);
+  }
+
+  @Override
+  public int tryPeek() {
+    final int index = this.index;
+    return index >= 0 && index < this.sequence.length() ? this.sequence.charAt(index) : -1;
+  }
+
+  @Override
+  public int tryPeek(final @NonNegative int offset) {
+    final int index = this.index + offset;
+    return index >= 0 && index < this.sequence.length() ? this.sequence.charAt(index) : -1;
+  }
+
+  @Override
+  public int tryNext() {
+    final int index = this.index;
+    if(index < 0 || index >= this.sequence.length()) return -1;
+    this.index = index + 1;
+    return this.sequence.charAt(index);
+  }
+
+  @Override
+  public char peekUnchecked() {
+    return this.sequence.charAt(this.index);
+  }
+
+  @Override
+  public char peekUnchecked(final @NonNegative int offset) {
+    return this.sequence.charAt(this.index + offset);
+  }
+
+  @Override
+  public char nextUnchecked() {
+    return this.sequence.charAt(this.index++);
+  }
+
+  @Override
+  public int hash(final @NonNegative int start, final @NonNegative int end) {
+    this.checkRange(start, end);
+    final CharSequence sequence = this.sequence;
+    int hash = 0;
+    for(int i = start; i < end; i++) {
+      hash = 31 * hash + sequence.charAt(i);
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean contentEquals(final @NonNegative int start, final @NonNegative int end, final @NonNull CharSequence sequence) {
+    this.checkRange(start, end);
+    final int length = end - start;
+    if(sequence.length() != length) return false;
+    for(int i = 0; i < length; i++) {
+      if(this.sequence.charAt(start + i) != sequence.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public @NonNull String intern(final @NonNull StringRange range, final @NonNull TokenInterner interner) {
+    return interner.intern(this.sequence, range.start(), range.end());
+  }
+
+  @Override
+  public @Positive int lineOf(final @NonNegative int index) {
+    return this.lines().line(index) + 1;
+  }
+
+  @Override
+  public @Positive int columnOf(final @NonNegative int index) {
+    return this.lines().column(index) + 1;
+  }
+
+  private @NonNull LineIndex lines() {
+    if(this.source != null) return this.source.lines();
+    LineIndex lines = this.lines.index;
+    if(lines == null) {
+      lines = this.lines.index = LineIndex.of(this.sequence);
+    }
+    return lines;
+  }
+
+  @Override
+  public @NonNull StringReader copy() {
+    return new CharSequenceReaderImpl(this);
+  }
+
+  private void checkRange(final int start, final int end) {
+    if(start < 0 || end > this.sequence.length() || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.sequence.length());
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits a source into chunks that end just after a boundary character, such as a line break.
+ */
+/* package */ final class ChunkSpliterator implements Spliterator<StringReader> {
+  private final StringSourceImpl source;
+  private final CharMatcher boundary;
+  private final int size;
+  private int start;
+  private final int end;
+
+  /* package */ ChunkSpliterator(final @NonNull StringSourceImpl source, final @NonNull CharMatcher boundary, final int size, final int start, final int end) {
+    this.source = source;
+    this.boundary = boundary;
+    this.size = size;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  public boolean tryAdvance(final @NonNull Consumer<? super StringReader> action) {
+    if(this.start >= this.end) return false;
+    final int end = this.boundary(this.start + this.size);
+    action.accept(this.source.reader(this.start, end));
+    this.start = end;
+    return true;
+  }
+
+  @Override
+  public @Nullable Spliterator<StringReader> trySplit() {
+    final int remaining = this.end - this.start;
+    if(remaining <= this.size) return null;
+    final int middle = this.boundary(this.start + (remaining >>> 1));
+    if(middle >= this.end) return null;
+    final Spliterator<StringReader> prefix = new ChunkSpliterator(this.source, this.boundary, this.size, this.start, middle);
+    this.start = middle;
+    return prefix;
+  }
+
+  // gets the index just after the first boundary at or after index, or the end if there is none
+  private int boundary(final int index) {
+    final StringSourceImpl source = this.source;
+    for(int i = index; i < this.end; i++) {
+      if(this.boundary.matches(source.charAt(i))) return i + 1;
+    }
+    return this.end;
+  }
+
+  @Override
+  public long estimateSize() {
+    return (this.end - this.start + this.size - 1) / this.size;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL | IMMUTABLE;
+  }
+}
@@ -0,0 +1,544 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A reader that counts the work done by another reader.
+ *
+ * <p>Methods that have a default implementation in terms of other methods, such as {@link #attempt(java.util.function.Function)}
+ * and {@link #tokens(IntPredicate)}, are not delegated, so that their work is counted once.</p>
+ */
+/* package */ final class InstrumentedStringReader implements StringReader {
+  private final StringReader reader;
+  private final ReaderMetricsImpl metrics;
+
+  /* package */ InstrumentedStringReader(final @NonNull StringReader reader, final @NonNull ReaderMetricsImpl metrics) {
+    this.reader = reader;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public @NonNull String asString() {
+    try {
+      return this.reader.asString();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public @NonNull String string(final @NonNegative int start, final @NonNegative int end) {
+    final String string;
+    try {
+      string = this.reader.string(start, end);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+    this.metrics.materialized.add(string.length());
+    return string;
+  }
+
+  @Override
+  public @NonNull StringView view(final @NonNegative int start, final @NonNegative int end) {
+    try {
+      return this.reader.view(start, end);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public int hash(final @NonNegative int start, final @NonNegative int end) {
+    try {
+      return this.reader.hash(start, end);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public boolean contentEquals(final @NonNegative int start, final @NonNegative int end, final @NonNull CharSequence sequence) {
+    try {
+      return this.reader.contentEquals(start, end, sequence);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public @NonNegative int length() {
+    return this.reader.length();
+  }
+
+  @Override
+  public @NonNegative int remaining() {
+    return this.reader.remaining();
+  }
+
+  @Override
+  public @NonNegative int index() {
+    return this.reader.index();
+  }
+
+  @Override
+  public boolean readable() {
+    try {
+      return this.reader.readable();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public boolean readable(final @NonNegative int length) {
+    try {
+      return this.reader.readable(length);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public char peek() {
+    this.metrics.peeks.increment();
+    try {
+      return this.reader.peek();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public char peek(final int offset) {
+    this.metrics.peeks.increment();
+    try {
+      return this.reader.peek(offset);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public int tryPeek() {
+    this.metrics.peeks.increment();
+    try {
+      return this.reader.tryPeek();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public int tryPeek(final @NonNegative int offset) {
+    this.metrics.peeks.increment();
+    try {
+      return this.reader.tryPeek(offset);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public char peekUnchecked() {
+    this.metrics.peeks.increment();
+    try {
+      return this.reader.peekUnchecked();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public char peekUnchecked(final @NonNegative int offset) {
+    this.metrics.peeks.increment();
+    try {
+      return this.reader.peekUnchecked(offset);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public int indexOf(final char character) {
+    try {
+      return this.reader.indexOf(character);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public int indexOfAny(final char @NonNull ... characters) {
+    try {
+      return this.reader.indexOfAny(characters);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public @NonNull String intern(final @NonNull StringRange range, final @NonNull TokenInterner interner) {
+    try {
+      return this.reader.intern(range, interner);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public @Positive int lineOf(final @NonNegative int index) {
+    try {
+      return this.reader.lineOf(index);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public @Positive int columnOf(final @NonNegative int index) {
+    try {
+      return this.reader.columnOf(index);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public @NonNull LineColumnRange rangeToLineColumn(final @NonNull StringRange range) {
+    try {
+      return this.reader.rangeToLineColumn(range);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+  }
+
+  @Override
+  public @NonNull StringReader copy() {
+    final StringReader copy;
+    try {
+      copy = this.reader.copy();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+    this.metrics.copies.increment();
+    return new InstrumentedStringReader(copy, this.metrics);
+  }
+
+  @Override
+  public @NonNegative int index(final @NonNegative int index) {
+    final int before = this.reader.index();
+    try {
+      return this.reader.index(index);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public long mark() {
+    return this.reader.mark();
+  }
+
+  @Override
+  public void reset(final long mark) {
+    final int before = this.reader.index();
+    try {
+      this.reader.reset(mark);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public void skip() {
+    final int before = this.reader.index();
+    try {
+      this.reader.skip();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+    this.moved(before);
+  }
+
+  @Override
+  public void skip(final int n) {
+    final int before = this.reader.index();
+    try {
+      this.reader.skip(n);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public void skip(final @NonNull IntPredicate predicate) {
+    final int before = this.reader.index();
+    try {
+      this.reader.skip(predicate);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public void skip(final @NonNull CharMatcher matcher) {
+    final int before = this.reader.index();
+    try {
+      this.reader.skip(matcher);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public @NonNull StringRange read(final @NonNull CharMatcher matcher) {
+    final int before = this.reader.index();
+    try {
+      return this.reader.read(matcher);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public void skipWhitespace() {
+    final int before = this.reader.index();
+    try {
+      this.reader.skipWhitespace();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public void skipUntil(final char character) {
+    final int before = this.reader.index();
+    try {
+      this.reader.skipUntil(character);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public void skipUntilAny(final char @NonNull ... characters) {
+    final int before = this.reader.index();
+    try {
+      this.reader.skipUntilAny(characters);
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public int readInt() {
+    final int before = this.reader.index();
+    try {
+      return this.reader.readInt();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public long readLong() {
+    final int before = this.reader.index();
+    try {
+      return this.reader.readLong();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public double readDouble() {
+    final int before = this.reader.index();
+    try {
+      return this.reader.readDouble();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public boolean readBoolean() {
+    final int before = this.reader.index();
+    try {
+      return this.reader.readBoolean();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public @NonNull String readUnquoted() {
+    final int before = this.reader.index();
+    try {
+      return this.materialized(this.reader.readUnquoted());
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public @NonNull String readQuoted() {
+    final int before = this.reader.index();
+    try {
+      return this.materialized(this.reader.readQuoted());
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public @NonNull String readQuoted(final char quote, final char escape) {
+    final int before = this.reader.index();
+    try {
+      return this.materialized(this.reader.readQuoted(quote, escape));
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public @NonNull String readQuotedOrUnquoted() {
+    final int before = this.reader.index();
+    try {
+      return this.materialized(this.reader.readQuotedOrUnquoted());
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public @NonNull String readQuotedOrUnquoted(final char quote, final char escape) {
+    final int before = this.reader.index();
+    try {
+      return this.materialized(this.reader.readQuotedOrUnquoted(quote, escape));
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    } finally {
+      this.moved(before);
+    }
+  }
+
+  @Override
+  public char next() {
+    final int before = this.reader.index();
+    final char next;
+    try {
+      next = this.reader.next();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+    this.moved(before);
+    return next;
+  }
+
+  @Override
+  public int tryNext() {
+    final int before = this.reader.index();
+    final int next;
+    try {
+      next = this.reader.tryNext();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+    this.moved(before);
+    return next;
+  }
+
+  @Override
+  public char nextUnchecked() {
+    final int before = this.reader.index();
+    final char next;
+    try {
+      next = this.reader.nextUnchecked();
+    } catch(final RuntimeException e) {
+      throw this.metrics.failed(e);
+    }
+    this.moved(before);
+    return next;
+  }
+
+  private @NonNull String materialized(final @NonNull String string) {
+    this.metrics.materialized.add(string.length());
+    return string;
+  }
+
+  // counts a move from before to the current index
+  private void moved(final int before) {
+    final int delta = this.reader.index() - before;
+    if(delta > 0) {
+      this.metrics.read.add(delta);
+    } else if(delta < 0) {
+      this.metrics.rewinds.increment();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.reader.toString();
+  }
+}
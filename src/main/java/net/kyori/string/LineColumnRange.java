@@ -0,0 +1,75 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A range of a string, in lines and columns.
+ *
+ * <p>Lines and columns are one-based, and columns are counted in characters.</p>
+ */
+public interface LineColumnRange {
+  /**
+   * Creates a line and column range.
+   *
+   * @param startLine the start line
+   * @param startColumn the start column
+   * @param endLine the end line
+   * @param endColumn the end column
+   * @return the line and column range
+   */
+  static @NonNull LineColumnRange of(final @Positive int startLine, final @Positive int startColumn, final @Positive int endLine, final @Positive int endColumn) {
+    return new LineColumnRangeImpl(startLine, startColumn, endLine, endColumn);
+  }
+
+  /**
+   * Gets the start line.
+   *
+   * @return the start line
+   */
+  @Positive int startLine();
+
+  /**
+   * Gets the start column.
+   *
+   * @return the start column
+   */
+  @Positive int startColumn();
+
+  /**
+   * Gets the end line.
+   *
+   * @return the end line
+   */
+  @Positive int endLine();
+
+  /**
+   * Gets the end column.
+   *
+   * @return the end column
+   */
+  @Positive int endColumn();
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.Positive;
+
+/* package */ final class LineColumnRangeImpl implements LineColumnRange {
+  private final int startLine;
+  private final int startColumn;
+  private final int endLine;
+  private final int endColumn;
+
+  /* package */ LineColumnRangeImpl(final int startLine, final int startColumn, final int endLine, final int endColumn) {
+    this.startLine = startLine;
+    this.startColumn = startColumn;
+    this.endLine = endLine;
+    this.endColumn = endColumn;
+  }
+
+  @Override
+  public @Positive int startLine() {
+    return this.startLine;
+  }
+
+  @Override
+  public @Positive int startColumn() {
+    return this.startColumn;
+  }
+
+  @Override
+  public @Positive int endLine() {
+    return this.endLine;
+  }
+
+  @Override
+  public @Positive int endColumn() {
+    return this.endColumn;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof LineColumnRange)) return false;
+    final LineColumnRange that = (LineColumnRange) other;
+    return this.startLine == that.startLine() && this.startColumn == that.startColumn() && this.endLine == that.endLine() && this.endColumn == that.endColumn();
+  }
+
+  @Override
+  public int hashCode() {
+    int result = this.startLine;
+    result = 31 * result + this.startColumn;
+    result = 31 * result + this.endLine;
+    result = 31 * result + this.endColumn;
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return this.startLine + ":" + this.startColumn + "-" + this.endLine + ":" + this.endColumn;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The start indexes of each line in a string.
+ *
+ * <p>A line ends after {@code \n}, {@code \r\n} or a {@code \r} that is not followed by {@code \n}.</p>
+ */
+/* package */ final class LineIndex {
+  private final int[] starts;
+  private final int size;
+  private final int length;
+
+  private LineIndex(final int @NonNull [] starts, final int size, final int length) {
+    this.starts = starts;
+    this.size = size;
+    this.length = length;
+  }
+
+  /* package */ static @NonNull LineIndex of(final @NonNull CharSequence sequence) {
+    final int length = sequence.length();
+    int[] starts = new int[16];
+    int size = 1;
+    for(int i = 0; i < length; i++) {
+      final char c = sequence.charAt(i);
+      if(c == '\n' || (c == '\r' && (i + 1 == length || sequence.charAt(i + 1) != '\n'))) {
+        if(size == starts.length) starts = Arrays.copyOf(starts, size << 1);
+        starts[size++] = i + 1;
+      }
+    }
+    return new LineIndex(starts, size, length);
+  }
+
+  /* package */ static @NonNull LineIndex of(final @NonNull ByteBuffer buffer, final int offset, final int length) {
+    int[] starts = new int[16];
+    int size = 1;
+    for(int i = 0; i < length; i++) {
+      final byte b = buffer.get(offset + i);
+      if(b == '\n' || (b == '\r' && (i + 1 == length || buffer.get(offset + i + 1) != '\n'))) {
+        if(size == starts.length) starts = Arrays.copyOf(starts, size << 1);
+        starts[size++] = i + 1;
+      }
+    }
+    return new LineIndex(starts, size, length);
+  }
+
+  /**
+   * Gets the zero-based line containing {@code index}.
+   *
+   * @param index the index
+   * @return the line
+   * @throws StringIndexOutOfBoundsException if {@code index} is out of bounds
+   */
+  /* package */ @NonNegative int line(final int index) {
+    if(index < 0 || index > this.length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    final int line = Arrays.binarySearch(this.starts, 0, this.size, index);
+    return line >= 0 ? line : -line - 2;
+  }
+
+  /**
+   * Gets the start index of a zero-based {@code line}.
+   *
+   * @param line the line
+   * @return the start index
+   */
+  /* package */ @NonNegative int start(final @NonNegative int line) {
+    return this.starts[line];
+  }
+
+  /**
+   * Gets the zero-based column of {@code index}.
+   *
+   * @param index the index
+   * @return the column
+   * @throws StringIndexOutOfBoundsException if {@code index} is out of bounds
+   */
+  /* package */ @NonNegative int column(final int index) {
+    return index - this.starts[this.line(index)];
+  }
+
+  // a line index built on first use, and shared by a reader and its copies
+  /* package */ static final class Holder {
+    /* package */ volatile @Nullable LineIndex index;
+  }
+}
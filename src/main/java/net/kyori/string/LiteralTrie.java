@@ -0,0 +1,84 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled set of literals, for finding the longest literal at the index of a reader.
+ *
+ * <p>Literals are compiled into a trie stored in flat arrays, so a match reads each character once, and
+ * does not depend on the number of literals.</p>
+ *
+ * <pre>
+ * final int start = reader.index();
+ * final int id = keywords.match(reader);
+ * if(id != -1) {
+ *   final StringRange range = StringRange.between(start, reader.index());
+ * }
+ * </pre>
+ */
+public interface LiteralTrie {
+  /**
+   * Compiles {@code literals}, identifying each by its index in the list.
+   *
+   * @param literals the literals
+   * @return a trie
+   * @throws IllegalArgumentException if a literal is empty, or appears more than once
+   */
+  static @NonNull LiteralTrie compile(final @NonNull List<String> literals) {
+    final Map<String, Integer> ids = new HashMap<>();
+    for(int i = 0, size = literals.size(); i < size; i++) {
+      if(ids.put(literals.get(i), i) != null) {
+        throw new IllegalArgumentException("duplicate literal '" + literals.get(i) + "'");
+      }
+    }
+    return compile(ids);
+  }
+
+  /**
+   * Compiles the literals in {@code literals}, identifying each by its value.
+   *
+   * @param literals the literals and their ids
+   * @return a trie
+   * @throws IllegalArgumentException if a literal is empty, or an id is negative
+   */
+  static @NonNull LiteralTrie compile(final @NonNull Map<String, Integer> literals) {
+    return LiteralTrieImpl.compile(literals);
+  }
+
+  /**
+   * Matches the longest literal at the index of {@code reader}, and skips it.
+   *
+   * <p>If no literal matches, the reader is not moved.</p>
+   *
+   * @param reader the reader
+   * @return the id of the literal, or {@code -1} if no literal matches
+   */
+  int match(final @NonNull StringReader reader);
+}
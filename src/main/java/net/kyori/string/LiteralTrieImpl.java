@@ -0,0 +1,129 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/* package */ final class LiteralTrieImpl implements LiteralTrie {
+  // the edges of node n are at indexes first[n] to first[n + 1] of labels and targets, sorted by label
+  private final int[] first;
+  private final char[] labels;
+  private final int[] targets;
+  // the id of the literal ending at each node, or -1
+  private final int[] ids;
+
+  private LiteralTrieImpl(final int @NonNull [] first, final char @NonNull [] labels, final int @NonNull [] targets, final int @NonNull [] ids) {
+    this.first = first;
+    this.labels = labels;
+    this.targets = targets;
+    this.ids = ids;
+  }
+
+  /* package */ static @NonNull LiteralTrie compile(final @NonNull Map<String, Integer> literals) {
+    final Node root = new Node();
+    int nodes = 1;
+    for(final Map.Entry<String, Integer> entry : literals.entrySet()) {
+      final String literal = entry.getKey();
+      final int id = entry.getValue();
+      if(literal.isEmpty()) {
+        throw new IllegalArgumentException("empty literal");
+      } else if(id < 0) {
+        throw new IllegalArgumentException("literal '" + literal + "' has negative id " + id);
+      }
+      Node node = root;
+      for(int i = 0; i < literal.length(); i++) {
+        final char c = literal.charAt(i);
+        Node child = node.children.get(c);
+        if(child == null) {
+          child = new Node();
+          node.children.put(c, child);
+          nodes++;
+        }
+        node = child;
+      }
+      node.id = id;
+    }
+    // number the nodes breadth first, so the edges of each node follow those of the node before it
+    final int[] first = new int[nodes + 1];
+    final char[] labels = new char[nodes - 1];
+    final int[] targets = new int[nodes - 1];
+    final int[] ids = new int[nodes];
+    final List<Node> order = new ArrayList<>(nodes);
+    final Queue<Node> queue = new ArrayDeque<>();
+    queue.add(root);
+    while(!queue.isEmpty()) {
+      final Node node = queue.remove();
+      order.add(node);
+      queue.addAll(node.children.values());
+    }
+    int edge = 0;
+    int next = 1;
+    for(int n = 0; n < nodes; n++) {
+      final Node node = order.get(n);
+      ids[n] = node.id;
+      first[n] = edge;
+      for(final Map.Entry<Character, Node> child : node.children.entrySet()) {
+        labels[edge] = child.getKey();
+        targets[edge] = next++;
+        edge++;
+      }
+    }
+    first[nodes] = edge;
+    return new LiteralTrieImpl(first, labels, targets, ids);
+  }
+
+  @Override
+  public int match(final @NonNull StringReader reader) {
+    int node = 0;
+    int id = -1;
+    int length = 0;
+    int c;
+    for(int offset = 0; (c = reader.tryPeek(offset)) != -1; offset++) {
+      final int edge = Arrays.binarySearch(this.labels, this.first[node], this.first[node + 1], (char) c);
+      if(edge < 0) break;
+      node = this.targets[edge];
+      if(this.ids[node] != -1) {
+        id = this.ids[node];
+        length = offset + 1;
+      }
+    }
+    if(id != -1) {
+      reader.skip(length);
+    }
+    return id;
+  }
+
+  private static final class Node {
+    final TreeMap<Character, Node> children = new TreeMap<>();
+    int id = -1;
+  }
+}
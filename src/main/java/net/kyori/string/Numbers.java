@@ -0,0 +1,292 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/* package */ final class Numbers {
+  // powers of ten that are exactly representable as a double
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  // the maximum number of significant digits that are exactly representable as a double
+  private static final int MAX_EXACT_DIGITS = 15;
+
+  private Numbers() {
+  }
+
+  /* package */ static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isSign(final char c) {
+    return c == '-' || c == '+';
+  }
+
+  /**
+   * Finds the end of an optionally signed integer starting at {@code start}.
+   *
+   * @param sequence the character sequence
+   * @param start the start index
+   * @param limit the limit
+   * @return the end index
+   */
+  /* package */ static int integerEnd(final @NonNull CharSequence sequence, final @NonNegative int start, final @NonNegative int limit) {
+    int index = start;
+    if(index < limit && isSign(sequence.charAt(index))) index++;
+    while(index < limit && isDigit(sequence.charAt(index))) index++;
+    return index;
+  }
+
+  /**
+   * Finds the end of an optionally signed decimal number, with an optional fraction and exponent, starting at {@code start}.
+   *
+   * @param sequence the character sequence
+   * @param start the start index
+   * @param limit the limit
+   * @return the end index
+   */
+  /* package */ static int decimalEnd(final @NonNull CharSequence sequence, final @NonNegative int start, final @NonNegative int limit) {
+    int index = integerEnd(sequence, start, limit);
+    if(index < limit && sequence.charAt(index) == '.') {
+      index++;
+      while(index < limit && isDigit(sequence.charAt(index))) index++;
+    }
+    if(index < limit && (sequence.charAt(index) == 'e' || sequence.charAt(index) == 'E')) {
+      int exponent = index + 1;
+      if(exponent < limit && isSign(sequence.charAt(exponent))) exponent++;
+      if(exponent < limit && isDigit(sequence.charAt(exponent))) {
+        while(exponent < limit && isDigit(sequence.charAt(exponent))) exponent++;
+        index = exponent;
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Parses an optionally signed integer in range of {@code start} to {@code end}.
+   *
+   * @param sequence the character sequence
+   * @param start the start index
+   * @param end the end index
+   * @param min the minimum value
+   * @param max the maximum value
+   * @return the value
+   * @throws NumberFormatException if the range does not contain an integer between {@code min} and {@code max}
+   */
+  /* package */ static long parseInteger(final @NonNull CharSequence sequence, final @NonNegative int start, final @NonNegative int end, final long min, final long max) {
+    int index = start;
+    boolean negative = false;
+    if(index < end && isSign(sequence.charAt(index))) {
+      negative = sequence.charAt(index) == '-';
+      index++;
+    }
+    if(index >= end) {
+      throw new NumberFormatException();
+    }
+    // accumulate negatively, as the negative range is larger than the positive range
+    final long limit = negative ? min : -max;
+    final long multiplyLimit = limit / 10;
+    long result = 0;
+    for(; index < end; index++) {
+      final int digit = sequence.charAt(index) - '0';
+      if(digit < 0 || digit > 9 || result < multiplyLimit) {
+        throw new NumberFormatException();
+      }
+      result *= 10;
+      if(result < limit + digit) {
+        throw new NumberFormatException();
+      }
+      result -= digit;
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Parses an optionally signed decimal number in range of {@code start} to {@code end}.
+   *
+   * <p>Numbers with at most {@value #MAX_EXACT_DIGITS} significant digits and a small exponent are
+   * computed exactly without allocating, anything else is delegated to {@link Double#parseDouble(String)}.</p>
+   *
+   * @param sequence the character sequence
+   * @param start the start index
+   * @param end the end index
+   * @return the value
+   * @throws NumberFormatException if the range does not contain a decimal number
+   */
+  /* package */ static double parseDouble(final @NonNull CharSequence sequence, final @NonNegative int start, final @NonNegative int end) {
+    int index = start;
+    boolean negative = false;
+    if(index < end && isSign(sequence.charAt(index))) {
+      negative = sequence.charAt(index) == '-';
+      index++;
+    }
+    long significand = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean any = false;
+    boolean fraction = false;
+    for(; index < end; index++) {
+      final char c = sequence.charAt(index);
+      if(isDigit(c)) {
+        any = true;
+        if(significand != 0 || c != '0') {
+          if(++digits > MAX_EXACT_DIGITS) {
+            return Double.parseDouble(sequence.subSequence(start, end).toString());
+          }
+          significand = significand * 10 + (c - '0');
+        }
+        if(fraction) exponent--;
+      } else if(c == '.' && !fraction) {
+        fraction = true;
+      } else {
+        break;
+      }
+    }
+    if(!any) {
+      throw new NumberFormatException();
+    }
+    if(index < end) {
+      final char c = sequence.charAt(index);
+      if(c != 'e' && c != 'E') {
+        throw new NumberFormatException();
+      }
+      try {
+        exponent += (int) parseInteger(sequence, index + 1, end, -9999, 9999);
+      } catch(final NumberFormatException e) {
+        // an exponent this large over- or underflows, or is invalid
+        return Double.parseDouble(sequence.subSequence(start, end).toString());
+      }
+    }
+    final double value;
+    if(significand == 0) {
+      value = 0d;
+    } else if(exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+      value = significand * POWERS_OF_TEN[exponent];
+    } else if(exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+      value = significand / POWERS_OF_TEN[-exponent];
+    } else {
+      return Double.parseDouble(sequence.subSequence(start, end).toString());
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Reads an integer from a reader, using only the {@link StringReader} contract.
+   *
+   * @param reader the reader
+   * @param min the minimum value
+   * @param max the maximum value
+   * @param type the type name, for error messages
+   * @return the value
+   */
+  /* package */ static long readInteger(final @NonNull StringReader reader, final long min, final long max, final @NonNull String type) {
+    final int start = reader.index();
+    if(reader.readable() && isSign(reader.peek())) reader.skip();
+    skipDigits(reader);
+    final int end = reader.index();
+    try {
+      return parseInteger(reader.string(start, end), 0, end - start, min, max);
+    } catch(final NumberFormatException e) {
+      reader.index(start);
+      throw invalid(type, start, end);
+    }
+  }
+
+  /**
+   * Reads a decimal number from a reader, using only the {@link StringReader} contract.
+   *
+   * @param reader the reader
+   * @return the value
+   */
+  /* package */ static double readDouble(final @NonNull StringReader reader) {
+    final int start = reader.index();
+    if(reader.readable() && isSign(reader.peek())) reader.skip();
+    skipDigits(reader);
+    if(reader.readable() && reader.peek() == '.') {
+      reader.skip();
+      skipDigits(reader);
+    }
+    if(reader.readable() && (reader.peek() == 'e' || reader.peek() == 'E')) {
+      final int exponent = reader.index();
+      reader.skip();
+      if(reader.readable() && isSign(reader.peek())) reader.skip();
+      if(reader.readable() && isDigit(reader.peek())) {
+        skipDigits(reader);
+      } else {
+        reader.index(exponent);
+      }
+    }
+    final int end = reader.index();
+    try {
+      return parseDouble(reader.string(start, end), 0, end - start);
+    } catch(final NumberFormatException e) {
+      reader.index(start);
+      throw invalid("double", start, end);
+    }
+  }
+
+  /**
+   * Reads a boolean from a reader, using only the {@link StringReader} contract.
+   *
+   * @param reader the reader
+   * @return the value
+   */
+  /* package */ static boolean readBoolean(final @NonNull StringReader reader) {
+    // the literal must be the whole token, so "trueish" is not read as true
+    if(startsWith(reader, "true") && isBoundary(reader.tryPeek(4))) {
+      reader.skip(4);
+      return true;
+    } else if(startsWith(reader, "false") && isBoundary(reader.tryPeek(5))) {
+      reader.skip(5);
+      return false;
+    }
+    final int start = reader.index();
+    int length = 0;
+    while(reader.readable(length + 1) && Character.isLetterOrDigit(reader.peek(length))) length++;
+    throw invalid("boolean", start, start + length);
+  }
+
+  private static boolean startsWith(final @NonNull StringReader reader, final @NonNull String literal) {
+    if(!reader.readable(literal.length())) return false;
+    for(int i = 0; i < literal.length(); i++) {
+      if(reader.peek(i) != literal.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private static boolean isBoundary(final int c) {
+    return c == -1 || !Character.isLetterOrDigit(c);
+  }
+
+  private static void skipDigits(final @NonNull StringReader reader) {
+    while(reader.readable() && isDigit(reader.peek())) reader.skip();
+  }
+
+  /* package */ static @NonNull StringReaderException invalid(final @NonNull String type, final @NonNegative int start, final @NonNegative int end) {
+    return new StringReaderException("Invalid " + type + " at " + start + ".." + end, StringRange.between(start, end));
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/* package */ final class QuotedStrings {
+  private QuotedStrings() {
+  }
+
+  /**
+   * Reads an unquoted string from a reader, using only the {@link StringReader} contract.
+   *
+   * @param reader the reader
+   * @return the string
+   */
+  /* package */ static @NonNull String readUnquoted(final @NonNull StringReader reader) {
+    final int start = reader.index();
+    reader.skip(character -> !Character.isWhitespace(character));
+    return reader.string(start, reader.index());
+  }
+
+  /**
+   * Reads a quoted string from a reader, using only the {@link StringReader} contract.
+   *
+   * @param reader the reader
+   * @param quote the quote character
+   * @param escape the escape character
+   * @return the string
+   */
+  /* package */ static @NonNull String readQuoted(final @NonNull StringReader reader, final char quote, final char escape) {
+    return readQuoted(reader, quote, escape, null);
+  }
+
+  /**
+   * Reads a quoted string from a reader, using only the {@link StringReader} contract.
+   *
+   * @param reader the reader
+   * @param quote the quote character
+   * @param escape the escape character
+   * @param scratch the reader's buffer for strings with escapes, or {@code null} to create one when needed
+   * @return the string
+   */
+  /* package */ static @NonNull String readQuoted(final @NonNull StringReader reader, final char quote, final char escape, final @Nullable StringBuilder scratch) {
+    final int start = reader.index();
+    if(!reader.readable() || reader.peek() != quote) {
+      throw expectedQuote(start);
+    }
+    reader.skip();
+    final int contentStart = reader.index();
+    // fast path: find the closing quote first, so content without escapes is returned without a builder
+    final int found = reader.indexOfAny(quote, escape);
+    if(found == -1) {
+      // the quote may still be beyond what indexOfAny can see, as on a streaming reader
+      return readEscaped(reader, start, builder(scratch), quote, escape);
+    }
+    reader.index(found);
+    if(reader.peek() == quote) {
+      reader.skip();
+      return reader.string(contentStart, found);
+    }
+    return readEscaped(reader, start, builder(scratch).append(reader.view(contentStart, found)), quote, escape);
+  }
+
+  private static @NonNull StringBuilder builder(final @Nullable StringBuilder scratch) {
+    if(scratch == null) return new StringBuilder();
+    scratch.setLength(0);
+    return scratch;
+  }
+
+  // continues reading a quoted string into sb
+  private static @NonNull String readEscaped(final @NonNull StringReader reader, final @NonNegative int start, final @NonNull StringBuilder sb, final char quote, final char escape) {
+    while(reader.readable()) {
+      // indexes are not always one per character, as on a utf-8 reader
+      final int index = reader.index();
+      final char c = reader.next();
+      if(c == quote) {
+        return sb.toString();
+      } else if(c == escape) {
+        if(!reader.readable()) break;
+        final char escaped = reader.next();
+        if(escaped != quote && escaped != escape) {
+          final int end = reader.index();
+          rewind(reader, start);
+          throw invalidEscape(index, end);
+        }
+        sb.append(escaped);
+      } else {
+        sb.append(c);
+      }
+    }
+    final int end = reader.index();
+    rewind(reader, start);
+    throw unterminated(start, end);
+  }
+
+  // returns to start after a failed read, unless a streaming reader has already discarded it
+  private static void rewind(final @NonNull StringReader reader, final @NonNegative int start) {
+    if(reader instanceof StreamingStringReader && start < ((StreamingStringReader) reader).windowStart()) return;
+    reader.index(start);
+  }
+
+  /* package */ static @NonNull StringReaderException expectedQuote(final @NonNegative int index) {
+    return new StringReaderException("Expected quote at " + index, StringRange.between(index, index));
+  }
+
+  /* package */ static @NonNull StringReaderException invalidEscape(final @NonNegative int index) {
+    return invalidEscape(index, index + 2);
+  }
+
+  /* package */ static @NonNull StringReaderException invalidEscape(final @NonNegative int start, final @NonNegative int end) {
+    return new StringReaderException("Invalid escape sequence at " + start, StringRange.between(start, end));
+  }
+
+  /* package */ static @NonNull StringReaderException unterminated(final @NonNegative int start, final @NonNegative int end) {
+    return new StringReaderException("Unterminated quoted string at " + start, StringRange.between(start, end));
+  }
+}
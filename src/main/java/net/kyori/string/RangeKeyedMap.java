@@ -0,0 +1,107 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+
+/**
+ * An immutable map with string keys, which can be queried with a range of a reader without creating a string.
+ *
+ * <pre>
+ * final StringRange range = reader.read(CharMatcher.range('a', 'z'));
+ * final Command command = commands.get(reader, range);
+ * </pre>
+ *
+ * @param <V> the value type
+ */
+public interface RangeKeyedMap<V> {
+  /**
+   * Creates a map with the entries of {@code map}.
+   *
+   * @param map the map
+   * @param <V> the value type
+   * @return a map
+   * @throws NullPointerException if {@code map} contains a {@code null} key or value
+   */
+  static <V> @NonNull RangeKeyedMap<V> of(final @NonNull Map<String, ? extends V> map) {
+    return new RangeKeyedMapImpl<>(map);
+  }
+
+  /**
+   * Gets the value with a key equal to the characters of {@code reader} in range of {@code start} to {@code end}.
+   *
+   * @param reader the reader
+   * @param start the start index
+   * @param end the end index
+   * @return the value, or {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code reader}
+   */
+  @Nullable V get(final @NonNull StringReaderGetter reader, final @NonNegative int start, final @NonNegative int end);
+
+  /**
+   * Gets the value with a key equal to the characters of {@code reader} in range of {@code range}.
+   *
+   * @param reader the reader
+   * @param range the string range
+   * @return the value, or {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code reader}
+   */
+  default @Nullable V get(final @NonNull StringReaderGetter reader, final @NonNull StringRange range) {
+    return this.get(reader, range.start(), range.end());
+  }
+
+  /**
+   * Gets the value with a key equal to the characters of {@code reader} in range of a {@link StringRanges packed} {@code range}.
+   *
+   * <p>This is not an overload of {@link #get(StringReaderGetter, int, int)}, so an {@code int} index cannot be
+   * mistaken for a packed range.</p>
+   *
+   * @param reader the reader
+   * @param range the packed string range
+   * @return the value, or {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code reader}
+   */
+  default @Nullable V getPacked(final @NonNull StringReaderGetter reader, final long range) {
+    return this.get(reader, StringRanges.start(range), StringRanges.end(range));
+  }
+
+  /**
+   * Gets the value with a key equal to {@code key}.
+   *
+   * @param key the key
+   * @return the value, or {@code null}
+   */
+  @Nullable V get(final @NonNull CharSequence key);
+
+  /**
+   * Gets the number of entries.
+   *
+   * @return the number of entries
+   */
+  @NonNegative int size();
+}
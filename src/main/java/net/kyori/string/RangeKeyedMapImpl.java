@@ -0,0 +1,98 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+
+/* package */ final class RangeKeyedMapImpl<V> implements RangeKeyedMap<V> {
+  // open addressing with linear probing, at most half full
+  private final @Nullable String[] keys;
+  private final int[] hashes;
+  private final @Nullable Object[] values;
+  private final int mask;
+  private final int size;
+
+  /* package */ RangeKeyedMapImpl(final @NonNull Map<String, ? extends V> map) {
+    final int length = Integer.highestOneBit(Math.max(1, map.size()) << 1) << 1;
+    this.keys = new String[length];
+    this.hashes = new int[length];
+    this.values = new Object[length];
+    this.mask = length - 1;
+    for(final Map.Entry<String, ? extends V> entry : map.entrySet()) {
+      final String key = entry.getKey();
+      final V value = entry.getValue();
+      if(key == null || value == null) {
+        throw new NullPointerException("null key or value");
+      }
+      final int hash = key.hashCode();
+      int slot = Hashing.spread(hash) & this.mask;
+      while(this.keys[slot] != null) {
+        slot = (slot + 1) & this.mask;
+      }
+      this.keys[slot] = key;
+      this.hashes[slot] = hash;
+      this.values[slot] = value;
+    }
+    this.size = map.size();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(final @NonNull StringReaderGetter reader, final @NonNegative int start, final @NonNegative int end) {
+    final int hash = reader.hash(start, end);
+    // end - start is not the number of characters for every reader, so lengths are left to contentEquals
+    for(int slot = Hashing.spread(hash) & this.mask; ; slot = (slot + 1) & this.mask) {
+      final String key = this.keys[slot];
+      if(key == null) return null;
+      if(this.hashes[slot] == hash && reader.contentEquals(start, end, key)) {
+        return (V) this.values[slot];
+      }
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(final @NonNull CharSequence key) {
+    int hash = 0;
+    for(int i = 0, length = key.length(); i < length; i++) {
+      hash = 31 * hash + key.charAt(i);
+    }
+    for(int slot = Hashing.spread(hash) & this.mask; ; slot = (slot + 1) & this.mask) {
+      final String candidate = this.keys[slot];
+      if(candidate == null) return null;
+      if(this.hashes[slot] == hash && candidate.contentEquals(key)) {
+        return (V) this.values[slot];
+      }
+    }
+  }
+
+  @Override
+  public @NonNegative int size() {
+    return this.size;
+  }
+}
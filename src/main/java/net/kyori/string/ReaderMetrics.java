@@ -0,0 +1,134 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Counts the work done by {@link #instrument(StringReader) instrumented} readers.
+ *
+ * <p>Counters are striped, so one instance may be shared by readers on many threads. A
+ * {@link #disabled() disabled} instance does not instrument readers at all.</p>
+ */
+public interface ReaderMetrics {
+  /**
+   * Creates new reader metrics.
+   *
+   * @return reader metrics
+   */
+  static @NonNull ReaderMetrics create() {
+    return new ReaderMetricsImpl(true);
+  }
+
+  /**
+   * Gets reader metrics that count nothing.
+   *
+   * @return disabled reader metrics
+   */
+  static @NonNull ReaderMetrics disabled() {
+    return ReaderMetricsImpl.DISABLED;
+  }
+
+  /**
+   * Checks if readers are instrumented by these metrics.
+   *
+   * @return {@code true} if enabled
+   */
+  boolean enabled();
+
+  /**
+   * Gets a reader that counts its work, and otherwise behaves as {@code reader}.
+   *
+   * <p>If these metrics are disabled, {@code reader} is returned. Otherwise the returned reader only implements
+   * {@link StringReader}, even if {@code reader} is a more specific type.</p>
+   *
+   * @param reader the reader
+   * @return the instrumented reader
+   */
+  @NonNull StringReader instrument(final @NonNull StringReader reader);
+
+  /**
+   * Takes a snapshot of the counters.
+   *
+   * <p>Counters are read one at a time, so a snapshot taken while readers are in use is not atomic.</p>
+   *
+   * @return a snapshot
+   */
+  @NonNull Snapshot snapshot();
+
+  /**
+   * Resets the counters.
+   */
+  void reset();
+
+  /**
+   * The values of reader metrics at a point in time.
+   */
+  interface Snapshot {
+    /**
+     * Gets the number of index positions advanced by reading or skipping - characters, or bytes for a
+     * {@link Utf8StringReader}.
+     *
+     * @return the number of positions read
+     */
+    @NonNegative long read();
+
+    /**
+     * Gets the number of peeks.
+     *
+     * @return the number of peeks
+     */
+    @NonNegative long peeks();
+
+    /**
+     * Gets the number of times a reader moved backwards.
+     *
+     * @return the number of rewinds
+     */
+    @NonNegative long rewinds();
+
+    /**
+     * Gets the number of characters in strings created by {@link StringReaderGetter#string(int, int) string},
+     * and by reading quoted or unquoted strings.
+     *
+     * @return the number of characters materialized
+     */
+    @NonNegative long materialized();
+
+    /**
+     * Gets the number of readers {@link StringReaderGetter#copy() copied}.
+     *
+     * @return the number of copies
+     */
+    @NonNegative long copies();
+
+    /**
+     * Gets the number of exceptions thrown by readers.
+     *
+     * @return the number of exceptions
+     */
+    @NonNegative long exceptions();
+  }
+}
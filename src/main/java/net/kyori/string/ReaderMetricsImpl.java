@@ -0,0 +1,129 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/* package */ final class ReaderMetricsImpl implements ReaderMetrics {
+  /* package */ static final ReaderMetricsImpl DISABLED = new ReaderMetricsImpl(false);
+  private final boolean enabled;
+  /* package */ final LongAdder read = new LongAdder();
+  /* package */ final LongAdder peeks = new LongAdder();
+  /* package */ final LongAdder rewinds = new LongAdder();
+  /* package */ final LongAdder materialized = new LongAdder();
+  /* package */ final LongAdder copies = new LongAdder();
+  /* package */ final LongAdder exceptions = new LongAdder();
+
+  /* package */ ReaderMetricsImpl(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  public boolean enabled() {
+    return this.enabled;
+  }
+
+  @Override
+  public @NonNull StringReader instrument(final @NonNull StringReader reader) {
+    if(!this.enabled) {
+      return reader;
+    }
+    return new InstrumentedStringReader(reader, this);
+  }
+
+  @Override
+  public @NonNull Snapshot snapshot() {
+    return new SnapshotImpl(this.read.sum(), this.peeks.sum(), this.rewinds.sum(), this.materialized.sum(), this.copies.sum(), this.exceptions.sum());
+  }
+
+  @Override
+  public void reset() {
+    this.read.reset();
+    this.peeks.reset();
+    this.rewinds.reset();
+    this.materialized.reset();
+    this.copies.reset();
+    this.exceptions.reset();
+  }
+
+  /* package */ @NonNull RuntimeException failed(final @NonNull RuntimeException e) {
+    this.exceptions.increment();
+    return e;
+  }
+
+  /* package */ static final class SnapshotImpl implements Snapshot {
+    private final long read;
+    private final long peeks;
+    private final long rewinds;
+    private final long materialized;
+    private final long copies;
+    private final long exceptions;
+
+    /* package */ SnapshotImpl(final long read, final long peeks, final long rewinds, final long materialized, final long copies, final long exceptions) {
+      this.read = read;
+      this.peeks = peeks;
+      this.rewinds = rewinds;
+      this.materialized = materialized;
+      this.copies = copies;
+      this.exceptions = exceptions;
+    }
+
+    @Override
+    public long read() {
+      return this.read;
+    }
+
+    @Override
+    public long peeks() {
+      return this.peeks;
+    }
+
+    @Override
+    public long rewinds() {
+      return this.rewinds;
+    }
+
+    @Override
+    public long materialized() {
+      return this.materialized;
+    }
+
+    @Override
+    public long copies() {
+      return this.copies;
+    }
+
+    @Override
+    public long exceptions() {
+      return this.exceptions;
+    }
+
+    @Override
+    public String toString() {
+      return "read=" + this.read + ", peeks=" + this.peeks + ", rewinds=" + this.rewinds + ", materialized=" + this.materialized + ", copies=" + this.copies + ", exceptions=" + this.exceptions;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * A string reader over a stream of characters.
+ *
+ * <p>Characters are pulled from the stream into a fixed-size window as they are needed, and characters
+ * far enough behind the {@link #index() index} are discarded, so memory use does not depend on the size of
+ * the stream.</p>
+ *
+ * <p>The window always retains {@link #lookahead()} characters ahead of the index - {@link #peek(int) peeking}
+ * further ahead is not supported, and {@link #readable(int) checking} further ahead returns {@code false}, as if
+ * the input ended there. The index may only be moved back to
+ * {@link #windowStart()}, and {@link #length()} is the number of characters read from the stream so far.
+ * {@link #asString()}, {@link #copy()} and {@link #lineOf(int) line and column lookups} are not supported -
+ * use {@link #mark()} to backtrack within the window instead of copying. A read that fails after its start has
+ * left the window still throws {@link StringReaderException}, but cannot return the index to the start, and
+ * {@link StringPattern#match(StringReader) matching a pattern} fails if the match could continue past the lookahead.</p>
+ *
+ * <p>An {@link IOException} thrown by the stream is rethrown as an {@link UncheckedIOException}.</p>
+ */
+public interface StreamingStringReader extends StringReader, Closeable {
+  /**
+   * Creates a new streaming string reader with a window of 8192 characters and a lookahead of 1024 characters.
+   *
+   * @param reader the reader
+   * @return a streaming string reader
+   */
+  static @NonNull StreamingStringReader create(final @NonNull Reader reader) {
+    return create(reader, 8192, 1024);
+  }
+
+  /**
+   * Creates a new streaming string reader.
+   *
+   * @param reader the reader
+   * @param window the number of characters retained in memory
+   * @param lookahead the number of characters that can be read ahead of the index
+   * @return a streaming string reader
+   * @throws IllegalArgumentException if {@code lookahead} is not positive, or greater than {@code window}
+   */
+  static @NonNull StreamingStringReader create(final @NonNull Reader reader, final @NonNegative int window, final @NonNegative int lookahead) {
+    return new StreamingStringReaderImpl(reader, window, lookahead);
+  }
+
+  /**
+   * Creates a new streaming string reader over a channel, with a window of 8192 characters and a lookahead of 1024 characters.
+   *
+   * @param channel the channel
+   * @param charset the charset the channel is encoded in
+   * @return a streaming string reader
+   */
+  static @NonNull StreamingStringReader create(final @NonNull ReadableByteChannel channel, final @NonNull Charset charset) {
+    return create(Channels.newReader(channel, charset.newDecoder(), -1));
+  }
+
+  /**
+   * Gets the first index still retained in the window.
+   *
+   * @return the first retained index
+   */
+  @NonNegative int windowStart();
+
+  /**
+   * Gets the number of characters that can be read ahead of the index.
+   *
+   * @return the lookahead
+   */
+  @NonNegative int lookahead();
+
+  /**
+   * Gets the number of characters read from the stream so far.
+   *
+   * @return the number of characters read
+   */
+  @Override
+  @NonNegative int length();
+
+  /**
+   * Sets the index.
+   *
+   * @param index the new index
+   * @return the old index
+   * @throws IndexOutOfBoundsException if {@code index} is before the {@link #windowStart() window}
+   */
+  @Override
+  @NonNegative int index(final @NonNegative int index);
+
+  /**
+   * Not supported, the stream is not retained.
+   *
+   * @return never
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  @NonNull String asString();
+
+  /**
+   * Not supported, the stream cannot be shared.
+   *
+   * @return never
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  @NonNull StringReader copy();
+
+  /**
+   * Finds the next occurrence of {@code character}, within the {@link #lookahead() lookahead}.
+   *
+   * @param character the character
+   * @return the index of the character, or {@code -1} if it does not occur within the lookahead
+   */
+  @Override
+  int indexOf(final char character);
+
+  /**
+   * Finds the next occurrence of any of {@code characters}, within the {@link #lookahead() lookahead}.
+   *
+   * @param characters the characters
+   * @return the index of the first character found, or {@code -1} if none occur within the lookahead
+   */
+  @Override
+  int indexOfAny(final char @NonNull ... characters);
+
+  /**
+   * Closes the stream.
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,290 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.function.IntPredicate;
+
+/* package */ final class StreamingStringReaderImpl implements StreamingStringReader {
+  private final Reader reader;
+  private final char[] buffer;
+  private final int lookahead;
+  // the index of the first character in the buffer
+  private int base;
+  // the number of characters in the buffer
+  private int end;
+  private int index;
+  private boolean eof;
+  private @Nullable StringBuilder scratch;
+
+  /* package */ StreamingStringReaderImpl(final @NonNull Reader reader, final @NonNegative int window, final @NonNegative int lookahead) {
+    if(lookahead <= 0 || lookahead > window) {
+      throw new IllegalArgumentException("lookahead " + lookahead + " must be positive, and no greater than window " + window);
+    }
+    this.reader = reader;
+    this.buffer = new char[window];
+    this.lookahead = lookahead;
+  }
+
+  @Override
+  public @NonNegative int windowStart() {
+    return this.base;
+  }
+
+  @Override
+  public @NonNegative int lookahead() {
+    return this.lookahead;
+  }
+
+  @Override
+  public @NonNull String asString() {
+    throw new UnsupportedOperationException("a streaming reader does not retain the entire stream");
+  }
+
+  @Override
+  public @NonNull String string(final @NonNegative int start, final @NonNegative int end) {
+    if(start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end);
+    }
+    if(end > this.base + this.end) {
+      this.fill(end);
+    }
+    if(start < this.base || end > this.base + this.end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + " is outside of the window " + this.base + ".." + (this.base + this.end));
+    }
+    return new String(this.buffer, start - this.base, end - start);
+  }
+
+  @Override
+  public @NonNull String readQuoted(final char quote, final char escape) {
+    StringBuilder scratch = this.scratch;
+    if(scratch == null) {
+      scratch = this.scratch = new StringBuilder();
+    }
+    return QuotedStrings.readQuoted(this, quote, escape, scratch);
+  }
+
+  @Override
+  public @NonNull StringView view(final @NonNegative int start, final @NonNegative int end) {
+    // the window moves, so the characters must be copied
+    final String string = this.string(start, end);
+    return StringView.of(string, 0, string.length());
+  }
+
+  @Override
+  public @NonNegative int length() {
+    return this.base + this.end;
+  }
+
+  @Override
+  public @NonNegative int remaining() {
+    return this.base + this.end - this.index;
+  }
+
+  @Override
+  public @NonNegative int index() {
+    return this.index;
+  }
+
+  @Override
+  public @NonNegative int index(final @NonNegative int index) {
+    if(index < this.base) {
+      throw new IndexOutOfBoundsException("index " + index + " is before the window, which starts at " + this.base);
+    }
+    final int oldIndex = this.index;
+    this.index = index;
+    return oldIndex;
+  }
+
+  @Override
+  public boolean readable(final @NonNegative int length) {
+    if(length > this.lookahead) {
+      // not an error, so that generic code probing ahead sees the lookahead as the end of the input
+      return false;
+    }
+    final int target = this.index + length;
+    return target <= this.base + this.end || this.fill(target);
+  }
+
+  @Override
+  public void skip() {
+    this.index++;
+  }
+
+  @Override
+  public void skip(final @NonNull IntPredicate predicate) {
+    while(this.index < this.base + this.end || this.fill(this.index + 1)) {
+      if(!predicate.test(this.buffer[this.index - this.base])) break;
+      this.index++;
+    }
+  }
+
+  @Override
+  public void skip(final @NonNull CharMatcher matcher) {
+    while(this.index < this.base + this.end || this.fill(this.index + 1)) {
+      if(!matcher.matches(this.buffer[this.index - this.base])) break;
+      this.index++;
+    }
+  }
+
+  @Override
+  public int indexOf(final char character) {
+    for(int index = this.index; index < this.index + this.lookahead; index++) {
+      if(index >= this.base + this.end && !this.fill(index + 1)) break;
+      if(this.buffer[index - this.base] == character) return index;
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfAny(final char @NonNull ... characters) {
+    for(int index = this.index; index < this.index + this.lookahead; index++) {
+      if(index >= this.base + this.end && !this.fill(index + 1)) break;
+      if(CharScanning.contains(characters, this.buffer[index - this.base])) return index;
+    }
+    return -1;
+  }
+
+  @Override
+  public char peek() {
+    return this.charAt(this.index);
+  }
+
+  @Override
+  public char peek(final int offset) {
+    if(offset >= this.lookahead) {
+      throw new IllegalArgumentException("offset " + offset + " exceeds lookahead " + this.lookahead);
+    }
+    return this.charAt(this.index + offset);
+  }
+
+  @Override
+  public int tryPeek() {
+    return this.tryCharAt(this.index);
+  }
+
+  @Override
+  public int tryPeek(final @NonNegative int offset) {
+    // characters beyond the lookahead are not available
+    return offset < 0 || offset >= this.lookahead ? -1 : this.tryCharAt(this.index + offset);
+  }
+
+  @Override
+  public char next() {
+    final char c = this.charAt(this.index);
+    this.index++;
+    return c;
+  }
+
+  @Override
+  public int tryNext() {
+    final int c = this.tryCharAt(this.index);
+    if(c != -1) {
+      this.index++;
+    }
+    return c;
+  }
+
+  @Override
+  public @Positive int lineOf(final @NonNegative int index) {
+    throw new UnsupportedOperationException("a streaming reader does not retain the entire stream");
+  }
+
+  @Override
+  public @Positive int columnOf(final @NonNegative int index) {
+    throw new UnsupportedOperationException("a streaming reader does not retain the entire stream");
+  }
+
+  @Override
+  public @NonNull StringReader copy() {
+    throw new UnsupportedOperationException("a streaming reader cannot be copied");
+  }
+
+  @Override
+  public void close() {
+    try {
+      this.reader.close();
+    } catch(final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private char charAt(final int index) {
+    if(index < this.base || (index >= this.base + this.end && !this.fill(index + 1))) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return this.buffer[index - this.base];
+  }
+
+  private int tryCharAt(final int index) {
+    if(index < this.base || (index >= this.base + this.end && !this.fill(index + 1))) {
+      return -1;
+    }
+    return this.buffer[index - this.base];
+  }
+
+  // reads from the stream until the character before target is buffered, returning false if the stream ends first
+  private boolean fill(final int target) {
+    final char[] buffer = this.buffer;
+    while(this.base + this.end < target && !this.eof) {
+      if(this.end == buffer.length) {
+        this.compact();
+        if(this.end == buffer.length) {
+          // target is too far ahead of the index to fit in the window
+          return false;
+        }
+      }
+      try {
+        final int read = this.reader.read(buffer, this.end, buffer.length - this.end);
+        if(read < 0) {
+          this.eof = true;
+        } else {
+          this.end += read;
+        }
+      } catch(final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return this.base + this.end >= target;
+  }
+
+  // discards characters that are too far behind the index to be retained
+  private void compact() {
+    final int history = this.buffer.length - this.lookahead;
+    final int start = Math.max(this.base, Math.min(this.index, this.base + this.end) - history);
+    final int shift = start - this.base;
+    if(shift > 0) {
+      System.arraycopy(this.buffer, shift, this.buffer, 0, this.end - shift);
+      this.end -= shift;
+      this.base = start;
+    }
+  }
+}
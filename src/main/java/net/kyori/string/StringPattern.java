@@ -0,0 +1,91 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A compiled regular pattern, matched directly against a reader.
+ *
+ * <p>Patterns support a regular subset of {@link java.util.regex.Pattern} syntax:</p>
+ * <ul>
+ *   <li>literal ascii characters, and characters escaped with {@code \}</li>
+ *   <li>{@code .}, matching any character except a line terminator</li>
+ *   <li>classes such as {@code [a-z_]} and {@code [^,]}</li>
+ *   <li>{@code \d}, {@code \w} and {@code \s}, matching ascii digits, word characters and whitespace, and their
+ *   negations {@code \D}, {@code \W} and {@code \S}</li>
+ *   <li>the quantifiers {@code *}, {@code +} and {@code ?}</li>
+ *   <li>alternation with {@code |}, and grouping with {@code (} and {@code )}</li>
+ * </ul>
+ *
+ * <p>Patterns are compiled to a deterministic automaton, so matching reads each character once, and does not
+ * backtrack. Characters outside of ascii are all treated alike - they can be matched by {@code .} or a negated class,
+ * but cannot appear in a pattern. Anchors such as {@code ^} and {@code $} are not supported - a match always
+ * starts at the index of the reader.</p>
+ */
+public interface StringPattern {
+  /**
+   * Compiles {@code pattern}.
+   *
+   * <p>Compiled patterns are cached, so compiling the same pattern again is cheap.</p>
+   *
+   * @param pattern the pattern
+   * @return the compiled pattern
+   * @throws PatternSyntaxException if {@code pattern} is invalid, or too complex
+   */
+  static @NonNull StringPattern compile(final @NonNull String pattern) {
+    return StringPatternImpl.compile(pattern);
+  }
+
+  /**
+   * Gets the source of this pattern.
+   *
+   * @return the source
+   */
+  @NonNull String pattern();
+
+  /**
+   * Matches the longest string at the index of {@code reader} that this pattern matches, and skips it.
+   *
+   * <p>If nothing matches, the reader is not moved.</p>
+   *
+   * <p>A {@link StreamingStringReader} can only be matched as far as its {@link StreamingStringReader#lookahead() lookahead}.
+   * If a match could continue past it, the longest match is not known, and an exception is thrown.</p>
+   *
+   * @param reader the reader
+   * @return the {@link StringRanges packed} range matched, or {@code -1} if nothing matches
+   * @throws StringReaderException if a match on a streaming reader could continue past its lookahead
+   */
+  long match(final @NonNull StringReader reader);
+
+  /**
+   * Checks if this pattern matches the whole of {@code sequence}.
+   *
+   * @param sequence the character sequence
+   * @return {@code true} if this pattern matches, {@code false} otherwise
+   */
+  boolean matches(final @NonNull CharSequence sequence);
+}
@@ -0,0 +1,357 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.PatternSyntaxException;
+
+import static net.kyori.string.StringPatternImpl.OTHER;
+import static net.kyori.string.StringPatternImpl.SYMBOLS;
+
+/**
+ * Compiles a pattern to a nondeterministic automaton, and then to a deterministic one.
+ *
+ * <p>Sets of characters are {@link BitSet}s of symbols - one for each ascii character, one for the line
+ * terminators outside of ascii, and one for all other characters.</p>
+ */
+/* package */ final class StringPatternCompiler {
+  // the maximum number of states of a compiled pattern
+  private static final int MAX_STATES = 4096;
+  private static final BitSet DIGIT = range('0', '9');
+  private static final BitSet WORD = union(union(range('a', 'z'), range('A', 'Z')), union(DIGIT, single('_')));
+  private static final BitSet WHITESPACE = union(range('\t', '\r'), single(' '));
+  private final String pattern;
+  private int position;
+  // the nondeterministic automaton - each state has at most one character transition, and any number of empty transitions
+  private final List<@Nullable BitSet> sets = new ArrayList<>();
+  private final List<Integer> targets = new ArrayList<>();
+  private final List<List<Integer>> empties = new ArrayList<>();
+
+  private StringPatternCompiler(final @NonNull String pattern) {
+    this.pattern = pattern;
+  }
+
+  /* package */ static @NonNull StringPattern compile(final @NonNull String pattern) {
+    final StringPatternCompiler compiler = new StringPatternCompiler(pattern);
+    final int[] fragment = compiler.alternation();
+    if(compiler.position < pattern.length()) {
+      throw compiler.error("Unmatched closing ')'", compiler.position);
+    }
+    return compiler.determinize(fragment[0], fragment[1]);
+  }
+
+  // parsing - each method returns a fragment of the automaton, as its start and end states
+
+  private int @NonNull [] alternation() {
+    int[] fragment = this.concatenation();
+    while(this.position < this.pattern.length() && this.pattern.charAt(this.position) == '|') {
+      this.position++;
+      final int[] right = this.concatenation();
+      final int start = this.state();
+      final int end = this.state();
+      this.empty(start, fragment[0]);
+      this.empty(start, right[0]);
+      this.empty(fragment[1], end);
+      this.empty(right[1], end);
+      fragment = new int[]{start, end};
+    }
+    return fragment;
+  }
+
+  private int @NonNull [] concatenation() {
+    int @Nullable [] fragment = null;
+    while(this.position < this.pattern.length()) {
+      final char c = this.pattern.charAt(this.position);
+      if(c == '|' || c == ')') break;
+      final int[] next = this.repetition();
+      if(fragment == null) {
+        fragment = next;
+      } else {
+        this.empty(fragment[1], next[0]);
+        fragment = new int[]{fragment[0], next[1]};
+      }
+    }
+    if(fragment == null) {
+      final int state = this.state();
+      return new int[]{state, state};
+    }
+    return fragment;
+  }
+
+  private int @NonNull [] repetition() {
+    int[] fragment = this.atom();
+    while(this.position < this.pattern.length()) {
+      final char c = this.pattern.charAt(this.position);
+      if(c != '*' && c != '+' && c != '?') break;
+      this.position++;
+      final int start = this.state();
+      final int end = this.state();
+      this.empty(start, fragment[0]);
+      this.empty(fragment[1], end);
+      if(c != '+') this.empty(start, end); // * and ? may match nothing
+      if(c != '?') this.empty(fragment[1], fragment[0]); // * and + may repeat
+      fragment = new int[]{start, end};
+    }
+    return fragment;
+  }
+
+  private int @NonNull [] atom() {
+    final int index = this.position;
+    final char c = this.pattern.charAt(this.position++);
+    switch(c) {
+      case '(':
+        final int[] fragment = this.alternation();
+        if(this.position >= this.pattern.length()) {
+          throw this.error("Unclosed group", index);
+        }
+        this.position++;
+        return fragment;
+      case '[':
+        return this.set(this.characterClass(index));
+      case '.':
+        // like java.util.regex, . does not match line terminators
+        final BitSet any = range(0, OTHER);
+        any.clear('\n');
+        any.clear('\r');
+        return this.set(any);
+      case '\\':
+        return this.set(this.escape());
+      case '*':
+      case '+':
+      case '?':
+        throw this.error("Dangling meta character '" + c + "'", index);
+      case '{':
+        throw this.error("Bounded repetition is not supported", index);
+      case '^':
+      case '$':
+        throw this.error("Anchors are not supported", index);
+      default:
+        return this.set(single(this.ascii(c, index)));
+    }
+  }
+
+  private @NonNull BitSet characterClass(final int index) {
+    final boolean negated = this.position < this.pattern.length() && this.pattern.charAt(this.position) == '^';
+    if(negated) this.position++;
+    final BitSet set = new BitSet(SYMBOLS);
+    boolean first = true;
+    while(true) {
+      if(this.position >= this.pattern.length()) {
+        throw this.error("Unclosed character class", index);
+      }
+      final int start = this.position;
+      char c = this.pattern.charAt(this.position++);
+      if(c == ']' && !first) break;
+      first = false;
+      if(c == '\\') {
+        final BitSet escaped = this.escape();
+        if(escaped.cardinality() != 1 || this.position >= this.pattern.length() || this.pattern.charAt(this.position) != '-') {
+          set.or(escaped);
+          continue;
+        }
+        c = (char) escaped.nextSetBit(0);
+      } else {
+        this.ascii(c, start);
+      }
+      // a range, unless the - is the last character of the class
+      if(this.position + 1 < this.pattern.length() && this.pattern.charAt(this.position) == '-' && this.pattern.charAt(this.position + 1) != ']') {
+        this.position++;
+        final int end = this.position;
+        char to = this.pattern.charAt(this.position++);
+        if(to == '\\') {
+          final BitSet escaped = this.escape();
+          if(escaped.cardinality() != 1) {
+            throw this.error("Illegal character range", end);
+          }
+          to = (char) escaped.nextSetBit(0);
+        } else {
+          this.ascii(to, end);
+        }
+        if(to < c) {
+          throw this.error("Illegal character range", start);
+        }
+        set.set(c, to + 1);
+      } else {
+        set.set(c);
+      }
+    }
+    if(negated) set.flip(0, SYMBOLS);
+    return set;
+  }
+
+  private @NonNull BitSet escape() {
+    final int index = this.position - 1;
+    if(this.position >= this.pattern.length()) {
+      throw this.error("Unexpected end of pattern", index);
+    }
+    final char c = this.pattern.charAt(this.position++);
+    switch(c) {
+      case 'd': return DIGIT;
+      case 'D': return negate(DIGIT);
+      case 'w': return WORD;
+      case 'W': return negate(WORD);
+      case 's': return WHITESPACE;
+      case 'S': return negate(WHITESPACE);
+      case 't': return single('\t');
+      case 'n': return single('\n');
+      case 'r': return single('\r');
+      case 'f': return single('\f');
+      default:
+        if(Character.isLetterOrDigit(c)) {
+          throw this.error("Unsupported escape sequence", index);
+        }
+        return single(this.ascii(c, index));
+    }
+  }
+
+  private char ascii(final char c, final int index) {
+    if(c >= OTHER) {
+      throw this.error("Characters outside of ascii are not supported", index);
+    }
+    return c;
+  }
+
+  private @NonNull PatternSyntaxException error(final @NonNull String description, final int index) {
+    return new PatternSyntaxException(description, this.pattern, index);
+  }
+
+  // building
+
+  private int state() {
+    this.sets.add(null);
+    this.targets.add(-1);
+    this.empties.add(new ArrayList<>(2));
+    return this.sets.size() - 1;
+  }
+
+  private void empty(final int from, final int to) {
+    this.empties.get(from).add(to);
+  }
+
+  private int @NonNull [] set(final @NonNull BitSet set) {
+    final int start = this.state();
+    final int end = this.state();
+    this.sets.set(start, set);
+    this.targets.set(start, end);
+    return new int[]{start, end};
+  }
+
+  private static @NonNull BitSet single(final int c) {
+    final BitSet set = new BitSet(SYMBOLS);
+    set.set(c);
+    return set;
+  }
+
+  private static @NonNull BitSet range(final int from, final int to) {
+    final BitSet set = new BitSet(SYMBOLS);
+    set.set(from, to + 1);
+    return set;
+  }
+
+  private static @NonNull BitSet union(final @NonNull BitSet a, final @NonNull BitSet b) {
+    final BitSet set = (BitSet) a.clone();
+    set.or(b);
+    return set;
+  }
+
+  private static @NonNull BitSet negate(final @NonNull BitSet a) {
+    final BitSet set = (BitSet) a.clone();
+    set.flip(0, SYMBOLS);
+    return set;
+  }
+
+  // subset construction
+
+  private @NonNull StringPattern determinize(final int start, final int accept) {
+    final Map<BitSet, Integer> ids = new HashMap<>();
+    final List<BitSet> states = new ArrayList<>();
+    final BitSet initial = this.closure(single(start));
+    ids.put(initial, 0);
+    states.add(initial);
+    int[] transitions = new int[SYMBOLS * 16];
+    for(int id = 0; id < states.size(); id++) {
+      final BitSet state = states.get(id);
+      if(transitions.length < (id + 1) * SYMBOLS) {
+        transitions = Arrays.copyOf(transitions, transitions.length << 1);
+      }
+      for(int symbol = 0; symbol < SYMBOLS; symbol++) {
+        final BitSet moved = new BitSet();
+        for(int s = state.nextSetBit(0); s >= 0; s = state.nextSetBit(s + 1)) {
+          final BitSet set = this.sets.get(s);
+          if(set != null && set.get(symbol)) {
+            moved.set(this.targets.get(s));
+          }
+        }
+        if(moved.isEmpty()) {
+          transitions[id * SYMBOLS + symbol] = -1;
+          continue;
+        }
+        final BitSet next = this.closure(moved);
+        Integer target = ids.get(next);
+        if(target == null) {
+          if(states.size() == MAX_STATES) {
+            throw this.error("Pattern is too complex", 0);
+          }
+          target = states.size();
+          ids.put(next, target);
+          states.add(next);
+        }
+        transitions[id * SYMBOLS + symbol] = target;
+      }
+    }
+    final boolean[] accepting = new boolean[states.size()];
+    for(int id = 0; id < accepting.length; id++) {
+      accepting[id] = states.get(id).get(accept);
+    }
+    return new StringPatternImpl(this.pattern, Arrays.copyOf(transitions, states.size() * SYMBOLS), accepting);
+  }
+
+  // the states reachable from states through empty transitions
+  private @NonNull BitSet closure(final @NonNull BitSet states) {
+    final BitSet closure = (BitSet) states.clone();
+    final Deque<Integer> stack = new ArrayDeque<>();
+    for(int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+      stack.push(s);
+    }
+    while(!stack.isEmpty()) {
+      for(final int next : this.empties.get(stack.pop())) {
+        if(!closure.get(next)) {
+          closure.set(next);
+          stack.push(next);
+        }
+      }
+    }
+    return closure;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/* package */ final class StringPatternImpl implements StringPattern {
+  /* package */ static final int SYMBOLS = 130;
+  // the symbol of every other character outside of ascii
+  /* package */ static final int OTHER = 128;
+  // the symbol of the line terminators outside of ascii, which . does not match
+  /* package */ static final int LINE = 129;
+  // patterns are not cached once there are this many, so compiling generated patterns does not leak
+  private static final int CACHE_SIZE = 1024;
+  private static final ConcurrentMap<String, StringPattern> CACHE = new ConcurrentHashMap<>();
+  private final String pattern;
+  // the next state for each state and symbol, or -1
+  private final int[] transitions;
+  private final boolean[] accepting;
+  // if a state has any transition, so a match could continue past it
+  private final boolean[] live;
+
+  /* package */ StringPatternImpl(final @NonNull String pattern, final int @NonNull [] transitions, final boolean @NonNull [] accepting) {
+    this.pattern = pattern;
+    this.transitions = transitions;
+    this.accepting = accepting;
+    this.live = new boolean[accepting.length];
+    for(int i = 0; i < transitions.length; i++) {
+      if(transitions[i] != -1) this.live[i / SYMBOLS] = true;
+    }
+  }
+
+  /* package */ static int symbol(final int c) {
+    if(c < OTHER) return c;
+    return c == '\u0085' || c == '\u2028' || c == '\u2029' ? LINE : OTHER;
+  }
+
+  /* package */ static @NonNull StringPattern compile(final @NonNull String pattern) {
+    final StringPattern cached = CACHE.get(pattern);
+    if(cached != null) return cached;
+    final StringPattern compiled = StringPatternCompiler.compile(pattern);
+    if(CACHE.size() < CACHE_SIZE) {
+      final StringPattern previous = CACHE.putIfAbsent(pattern, compiled);
+      if(previous != null) return previous;
+    }
+    return compiled;
+  }
+
+  @Override
+  public @NonNull String pattern() {
+    return this.pattern;
+  }
+
+  @Override
+  public long match(final @NonNull StringReader reader) {
+    final int[] transitions = this.transitions;
+    final boolean[] accepting = this.accepting;
+    int state = 0;
+    int length = accepting[0] ? 0 : -1;
+    int offset = 0;
+    for(int c; (c = reader.tryPeek(offset)) != -1; offset++) {
+      state = transitions[state * SYMBOLS + symbol(c)];
+      if(state == -1) break;
+      if(accepting[state]) length = offset + 1;
+    }
+    final int start = reader.index();
+    if(state != -1 && this.live[state] && reader instanceof StreamingStringReader && offset >= ((StreamingStringReader) reader).lookahead()) {
+      // the match may continue past what the reader can see, so the longest match is not known
+      throw new StringReaderException("Match at " + start + " exceeds the lookahead of " + offset, StringRange.between(start, start + offset));
+    }
+    if(length == -1) return -1;
+    reader.skip(length);
+    // length is in characters, which may differ from the distance between indexes
+    return StringRanges.pack(start, reader.index());
+  }
+
+  @Override
+  public boolean matches(final @NonNull CharSequence sequence) {
+    int state = 0;
+    for(int i = 0, length = sequence.length(); i < length; i++) {
+      state = this.transitions[state * SYMBOLS + symbol(sequence.charAt(i))];
+      if(state == -1) return false;
+    }
+    return this.accepting[state];
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return this.pattern;
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Iterator;
+
+/**
+ * A growable buffer of string ranges.
+ *
+ * <p>Ranges are stored as start and end pairs in a single {@code int[]}, without an object per range.</p>
+ */
+public interface StringRangeBuffer extends Iterable<StringRange> {
+  /**
+   * Creates a new string range buffer.
+   *
+   * @return a string range buffer
+   */
+  static @NonNull StringRangeBuffer create() {
+    return create(16);
+  }
+
+  /**
+   * Creates a new string range buffer.
+   *
+   * @param capacity the initial number of ranges the buffer can hold
+   * @return a string range buffer
+   */
+  static @NonNull StringRangeBuffer create(final @NonNegative int capacity) {
+    return new StringRangeBufferImpl(capacity);
+  }
+
+  /**
+   * Gets the number of ranges.
+   *
+   * @return the number of ranges
+   */
+  @NonNegative int size();
+
+  /**
+   * Checks if the buffer is empty.
+   *
+   * @return {@code true} if empty, {@code false} otherwise
+   */
+  default boolean isEmpty() {
+    return this.size() == 0;
+  }
+
+  /**
+   * Appends a range.
+   *
+   * @param start the start index
+   * @param end the end index
+   */
+  void add(final @NonNegative int start, final @NonNegative int end);
+
+  /**
+   * Appends a range.
+   *
+   * @param range the string range
+   */
+  default void add(final @NonNull StringRange range) {
+    this.add(range.start(), range.end());
+  }
+
+  /**
+   * Gets the start index of the range at {@code index}.
+   *
+   * @param index the index
+   * @return the start index
+   * @throws IndexOutOfBoundsException if there is no range at {@code index}
+   */
+  @NonNegative int start(final @NonNegative int index);
+
+  /**
+   * Gets the end index of the range at {@code index}.
+   *
+   * @param index the index
+   * @return the end index
+   * @throws IndexOutOfBoundsException if there is no range at {@code index}
+   */
+  @NonNegative int end(final @NonNegative int index);
+
+  /**
+   * Gets the range at {@code index}.
+   *
+   * @param index the index
+   * @return the string range
+   * @throws IndexOutOfBoundsException if there is no range at {@code index}
+   */
+  default @NonNull StringRange get(final @NonNegative int index) {
+    return StringRange.between(this.start(index), this.end(index));
+  }
+
+  /**
+   * Gets the range at {@code index} as a {@link StringRanges packed} range.
+   *
+   * @param index the index
+   * @return the packed string range
+   * @throws IndexOutOfBoundsException if there is no range at {@code index}
+   */
+  default long packed(final @NonNegative int index) {
+    return StringRanges.pack(this.start(index), this.end(index));
+  }
+
+  /**
+   * Searches for the range containing {@code offset}.
+   *
+   * <p>The ranges must be sorted by start index and must not overlap, such as after {@link #merge()}.</p>
+   *
+   * @param offset the offset
+   * @return the index of the range containing {@code offset}, or {@code (-(insertion point) - 1)} if
+   *     no range contains it, where the insertion point is the index of the first range starting after {@code offset}
+   */
+  int search(final @NonNegative int offset);
+
+  /**
+   * Sorts the ranges by start index and merges ranges that overlap or touch.
+   *
+   * <p>Merged ranges are composed as if by {@link StringRange#expand(StringRange)}.</p>
+   */
+  void merge();
+
+  /**
+   * Removes all ranges.
+   */
+  void clear();
+
+  /**
+   * Gets an iterator over the ranges.
+   *
+   * <p>The iterator returns the same {@link StringRange} instance on each call to {@link Iterator#next()},
+   * updated to the current range - use {@link #get(int)} to retain a range.</p>
+   *
+   * @return an iterator
+   */
+  @Override
+  @NonNull Iterator<StringRange> iterator();
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/* package */ final class StringRangeBufferImpl implements StringRangeBuffer {
+  // start and end pairs - the range at index i is stored at 2i and 2i + 1
+  private int[] ranges;
+  private int size;
+
+  /* package */ StringRangeBufferImpl(final @NonNegative int capacity) {
+    this.ranges = new int[Math.max(capacity, 1) * 2];
+  }
+
+  @Override
+  public @NonNegative int size() {
+    return this.size;
+  }
+
+  @Override
+  public void add(final @NonNegative int start, final @NonNegative int end) {
+    StringRangeImpl.checkRange("start", start);
+    StringRangeImpl.checkRange("end", end);
+    final int i = this.size * 2;
+    if(i == this.ranges.length) {
+      this.ranges = Arrays.copyOf(this.ranges, i * 2);
+    }
+    this.ranges[i] = start;
+    this.ranges[i + 1] = end;
+    this.size++;
+  }
+
+  @Override
+  public @NonNegative int start(final @NonNegative int index) {
+    this.checkIndex(index);
+    return this.ranges[index * 2];
+  }
+
+  @Override
+  public @NonNegative int end(final @NonNegative int index) {
+    this.checkIndex(index);
+    return this.ranges[index * 2 + 1];
+  }
+
+  @Override
+  public int search(final @NonNegative int offset) {
+    final int[] ranges = this.ranges;
+    int low = 0;
+    int high = this.size - 1;
+    while(low <= high) {
+      final int mid = (low + high) >>> 1;
+      if(ranges[mid * 2] <= offset) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    // low is now the index of the first range starting after offset
+    if(low > 0 && offset < ranges[(low - 1) * 2 + 1]) {
+      return low - 1;
+    }
+    return -(low + 1);
+  }
+
+  @Override
+  public void merge() {
+    final int size = this.size;
+    if(size < 2) return;
+    final int[] ranges = this.ranges;
+    // packed ranges sort by start, then by end
+    final long[] packed = new long[size];
+    for(int i = 0; i < size; i++) {
+      packed[i] = ((long) ranges[i * 2] << 32) | ranges[i * 2 + 1];
+    }
+    Arrays.sort(packed);
+    int merged = 0;
+    for(int i = 0; i < size; i++) {
+      final int start = StringRanges.start(packed[i]);
+      final int end = StringRanges.end(packed[i]);
+      if(merged > 0 && start <= ranges[merged * 2 - 1]) {
+        ranges[merged * 2 - 1] = Math.max(ranges[merged * 2 - 1], end);
+      } else {
+        ranges[merged * 2] = start;
+        ranges[merged * 2 + 1] = end;
+        merged++;
+      }
+    }
+    this.size = merged;
+  }
+
+  @Override
+  public void clear() {
+    this.size = 0;
+  }
+
+  @Override
+  public @NonNull Iterator<StringRange> iterator() {
+    return new Flyweight();
+  }
+
+  private void checkIndex(final int index) {
+    if(index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException("index " + index + ", size " + this.size);
+    }
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("[");
+    for(int i = 0; i < this.size; i++) {
+      if(i > 0) sb.append(", ");
+      sb.append(this.ranges[i * 2]).append("..").append(this.ranges[i * 2 + 1]);
+    }
+    return sb.append(']').toString();
+  }
+
+  private final class Flyweight implements Iterator<StringRange>, StringRange {
+    private int index = -1;
+
+    @Override
+    public boolean hasNext() {
+      return this.index + 1 < StringRangeBufferImpl.this.size;
+    }
+
+    @Override
+    public StringRange next() {
+      if(!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      this.index++;
+      return this;
+    }
+
+    @Override
+    public @NonNegative int start() {
+      return StringRangeBufferImpl.this.ranges[this.index * 2];
+    }
+
+    @Override
+    public @NonNegative int end() {
+      return StringRangeBufferImpl.this.ranges[this.index * 2 + 1];
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.start() == this.end();
+    }
+
+    @Override
+    public @NonNull StringRange expand(final @NonNull StringRange that) {
+      return new StringRangeImpl(Math.min(this.start(), that.start()), Math.max(this.end(), that.end()));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if(this == other) return true;
+      if(!(other instanceof StringRange)) return false;
+      final StringRange that = (StringRange) other;
+      return this.start() == that.start() && this.end() == that.end();
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 + this.start()) + this.end();
+    }
+  }
+}
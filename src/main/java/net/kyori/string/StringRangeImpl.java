@@ -26,8 +26,6 @@ package net.kyori.string;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.Objects;
-
 /* package */ final class StringRangeImpl implements StringRange {
   private final int start;
   private final int end;
@@ -37,7 +35,7 @@ import java.util.Objects;
     this.end = checkRange("end", end);
   }
 
-  private static int checkRange(final String name, final int value) {
+  /* package */ static int checkRange(final String name, final int value) {
     if(value < 0) {
       throw new IndexOutOfBoundsException(name + " cannot be less than zero");
     }
@@ -74,6 +72,6 @@ import java.util.Objects;
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.start, this.end);
+    return 31 * (31 + this.start) + this.end;
   }
 }
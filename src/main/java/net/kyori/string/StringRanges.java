@@ -0,0 +1,110 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Utilities for string ranges packed into a {@code long}.
+ *
+ * <p>A packed range stores the start index in the upper 32 bits and the end index in the lower 32 bits,
+ * and can be used in place of a {@link StringRange} where allocating an object per range is undesirable.</p>
+ */
+public final class StringRanges {
+  private StringRanges() {
+  }
+
+  /**
+   * Creates a packed string range.
+   *
+   * @param start the start index
+   * @param end the end index
+   * @return the packed string range
+   */
+  public static long pack(final @NonNegative int start, final @NonNegative int end) {
+    return ((long) StringRangeImpl.checkRange("start", start) << 32) | StringRangeImpl.checkRange("end", end);
+  }
+
+  /**
+   * Creates a packed string range from {@code range}.
+   *
+   * @param range the string range
+   * @return the packed string range
+   */
+  public static long pack(final @NonNull StringRange range) {
+    return pack(range.start(), range.end());
+  }
+
+  /**
+   * Creates a string range from a packed string range.
+   *
+   * @param range the packed string range
+   * @return the string range
+   */
+  public static @NonNull StringRange unpack(final long range) {
+    return StringRange.between(start(range), end(range));
+  }
+
+  /**
+   * Gets the start index of a packed string range.
+   *
+   * @param range the packed string range
+   * @return the start index
+   */
+  public static @NonNegative int start(final long range) {
+    return (int) (range >>> 32);
+  }
+
+  /**
+   * Gets the end index of a packed string range.
+   *
+   * @param range the packed string range
+   * @return the end index
+   */
+  public static @NonNegative int end(final long range) {
+    return (int) range;
+  }
+
+  /**
+   * Checks if a packed string range is empty.
+   *
+   * @param range the packed string range
+   * @return {@code true} if empty, {@code false} otherwise
+   */
+  public static boolean isEmpty(final long range) {
+    return start(range) == end(range);
+  }
+
+  /**
+   * Creates a new packed string range composed of the {@link Math#min(int, int) minimum} start and {@link Math#max(int, int) maximum} end.
+   *
+   * @param a a packed string range
+   * @param b the other packed string range
+   * @return a packed string range
+   */
+  public static long expand(final long a, final long b) {
+    return ((long) Math.min(start(a), start(b)) << 32) | Math.max(end(a), end(b));
+  }
+}
@@ -25,8 +25,14 @@ package net.kyori.string;
 
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.CharBuffer;
+import java.util.function.Function;
 import java.util.function.IntPredicate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface StringReader extends StringReaderGetter {
   /**
@@ -39,6 +45,69 @@ public interface StringReader extends StringReaderGetter {
     return new StringReaderImpl(string);
   }
 
+  /**
+   * Creates a new string reader over {@code chars}.
+   *
+   * <p>The array is not copied, and should not be modified while the reader is in use.</p>
+   *
+   * @param chars the characters
+   * @return a string reader
+   */
+  static @NonNull StringReader create(final char @NonNull [] chars) {
+    return new CharArrayReaderImpl(chars, 0, chars.length);
+  }
+
+  /**
+   * Creates a new string reader over {@code length} characters of {@code chars}, starting at {@code offset}.
+   *
+   * <p>The array is not copied, and should not be modified while the reader is in use. Indexes of the reader
+   * are relative to {@code offset}.</p>
+   *
+   * @param chars the characters
+   * @param offset the offset of the first character
+   * @param length the number of characters
+   * @return a string reader
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of bounds of {@code chars}
+   */
+  static @NonNull StringReader create(final char @NonNull [] chars, final @NonNegative int offset, final @NonNegative int length) {
+    return new CharArrayReaderImpl(chars, offset, length);
+  }
+
+  /**
+   * Creates a new string reader over the remaining characters of {@code buffer}.
+   *
+   * <p>The characters are not copied, and should not be modified while the reader is in use. Indexes of the reader
+   * are relative to the position of the buffer, which is not changed.</p>
+   *
+   * @param buffer the buffer
+   * @return a string reader
+   */
+  static @NonNull StringReader create(final @NonNull CharBuffer buffer) {
+    if(buffer.hasArray()) {
+      return new CharArrayReaderImpl(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    return new CharSequenceReaderImpl(buffer.slice());
+  }
+
+  /**
+   * Creates a new string reader over {@code sequence}.
+   *
+   * <p>The characters are not copied, and should not be modified while the reader is in use.</p>
+   *
+   * @param sequence the character sequence
+   * @return a string reader
+   */
+  static @NonNull StringReader create(final @NonNull CharSequence sequence) {
+    if(sequence instanceof StringSource) {
+      return ((StringSource) sequence).reader();
+    } else if(sequence instanceof String) {
+      return create((String) sequence);
+    } else if(sequence instanceof CharBuffer) {
+      return create((CharBuffer) sequence);
+    }
+    return new CharSequenceReaderImpl(sequence);
+  }
+
   /**
    * Sets the index.
    *
@@ -47,6 +116,49 @@ public interface StringReader extends StringReaderGetter {
    */
   @NonNegative int index(final @NonNegative int index);
 
+  /**
+   * Marks the current position, so it can be returned to with {@link #reset(long)}.
+   *
+   * <p>Unlike {@link #copy()}, marking does not allocate.</p>
+   *
+   * @return the mark
+   */
+  default long mark() {
+    return this.index();
+  }
+
+  /**
+   * Returns to a position previously {@link #mark() marked} by this reader.
+   *
+   * @param mark the mark
+   */
+  default void reset(final long mark) {
+    this.index((int) mark);
+  }
+
+  /**
+   * Applies {@code function} to this reader, returning to the current position if it returns {@code null}
+   * or throws an exception.
+   *
+   * @param function the function
+   * @param <T> the result type
+   * @return the result of {@code function}
+   */
+  default <T> @Nullable T attempt(final @NonNull Function<? super StringReader, ? extends T> function) {
+    final long mark = this.mark();
+    final T result;
+    try {
+      result = function.apply(this);
+    } catch(final RuntimeException e) {
+      this.reset(mark);
+      throw e;
+    }
+    if(result == null) {
+      this.reset(mark);
+    }
+    return result;
+  }
+
   /**
    * Skips a single character.
    */
@@ -74,6 +186,199 @@ public interface StringReader extends StringReaderGetter {
     }
   }
 
+  /**
+   * Skips characters while {@code matcher} matches.
+   *
+   * @param matcher the matcher
+   */
+  default void skip(final @NonNull CharMatcher matcher) {
+    while(this.readable() && matcher.matches(this.peek())) {
+      this.skip();
+    }
+  }
+
+  /**
+   * Reads characters while {@code matcher} matches.
+   *
+   * @param matcher the matcher
+   * @return the range of characters read, which may be empty
+   */
+  default @NonNull StringRange read(final @NonNull CharMatcher matcher) {
+    final int start = this.index();
+    this.skip(matcher);
+    return StringRange.between(start, this.index());
+  }
+
+  /**
+   * Creates a lazy stream of the tokens separated by characters matching {@code delimiter}.
+   *
+   * <p>The reader is advanced as the stream is consumed - use a {@link #copy() copy} to keep this reader
+   * where it is. Tokens are never empty, and delimiters before the first or after the last token are
+   * skipped.</p>
+   *
+   * @param delimiter the delimiter predicate, which may be a {@link CharMatcher}
+   * @return a stream of token ranges
+   */
+  default @NonNull Stream<StringRange> tokens(final @NonNull IntPredicate delimiter) {
+    return StreamSupport.stream(new Tokens.Ranges(this, delimiter), false);
+  }
+
+  /**
+   * Creates a lazy stream of the {@link StringRanges packed} ranges of the tokens separated by characters
+   * matching {@code delimiter}.
+   *
+   * <p>Unlike {@link #tokens(IntPredicate)}, no object is created for each token.</p>
+   *
+   * @param delimiter the delimiter predicate, which may be a {@link CharMatcher}
+   * @return a stream of packed token ranges
+   */
+  default @NonNull LongStream packedTokens(final @NonNull IntPredicate delimiter) {
+    return StreamSupport.longStream(new Tokens.Packed(this, delimiter), false);
+  }
+
+  /**
+   * Creates a lazy stream of the tokens read by {@code function}.
+   *
+   * <p>{@code function} is applied to this reader until it returns {@code null}, or nothing remains to be
+   * read. Each call must advance the reader.</p>
+   *
+   * @param function the token function
+   * @return a stream of token ranges
+   * @throws IllegalStateException when consumed, if {@code function} does not advance the reader
+   */
+  default @NonNull Stream<StringRange> tokenize(final @NonNull Function<? super StringReader, ? extends @Nullable StringRange> function) {
+    return StreamSupport.stream(new Tokens.Scanned(this, function), false);
+  }
+
+  /**
+   * Skips {@link Character#isWhitespace(char) whitespace} characters.
+   */
+  default void skipWhitespace() {
+    this.skip(Character::isWhitespace);
+  }
+
+  /**
+   * Skips characters until {@code character} is found, or the end is reached.
+   *
+   * <p>The matching character is not skipped.</p>
+   *
+   * @param character the character
+   */
+  default void skipUntil(final char character) {
+    while(this.readable() && this.peek() != character) {
+      this.skip();
+    }
+  }
+
+  /**
+   * Skips characters until any of {@code characters} is found, or the end is reached.
+   *
+   * <p>The matching character is not skipped.</p>
+   *
+   * @param characters the characters
+   */
+  default void skipUntilAny(final char @NonNull ... characters) {
+    while(this.readable() && !CharScanning.contains(characters, this.peek())) {
+      this.skip();
+    }
+  }
+
+  /**
+   * Reads an optionally signed integer.
+   *
+   * @return the integer
+   * @throws StringReaderException if there is no valid integer available, in which case the index is not changed
+   */
+  default int readInt() {
+    return (int) Numbers.readInteger(this, Integer.MIN_VALUE, Integer.MAX_VALUE, "integer");
+  }
+
+  /**
+   * Reads an optionally signed long.
+   *
+   * @return the long
+   * @throws StringReaderException if there is no valid long available, in which case the index is not changed
+   */
+  default long readLong() {
+    return Numbers.readInteger(this, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+  }
+
+  /**
+   * Reads an optionally signed decimal number, with an optional fraction and exponent.
+   *
+   * @return the double
+   * @throws StringReaderException if there is no valid double available, in which case the index is not changed
+   */
+  default double readDouble() {
+    return Numbers.readDouble(this);
+  }
+
+  /**
+   * Reads a boolean - either {@code true} or {@code false}.
+   *
+   * @return the boolean
+   * @throws StringReaderException if there is no valid boolean available, in which case the index is not changed
+   */
+  default boolean readBoolean() {
+    return Numbers.readBoolean(this);
+  }
+
+  /**
+   * Reads an unquoted string, up to the next {@link Character#isWhitespace(char) whitespace} character.
+   *
+   * @return the string, which may be empty
+   */
+  default @NonNull String readUnquoted() {
+    return QuotedStrings.readUnquoted(this);
+  }
+
+  /**
+   * Reads a string quoted with {@code "}, in which {@code \} escapes a quote or another escape.
+   *
+   * @return the string, without quotes
+   * @throws StringReaderException if there is no valid quoted string available, in which case the index is not changed
+   */
+  default @NonNull String readQuoted() {
+    return this.readQuoted('"', '\\');
+  }
+
+  /**
+   * Reads a string quoted with {@code quote}, in which {@code escape} escapes a quote or another escape.
+   *
+   * @param quote the quote character
+   * @param escape the escape character
+   * @return the string, without quotes
+   * @throws StringReaderException if there is no valid quoted string available, in which case the index is not changed
+   */
+  default @NonNull String readQuoted(final char quote, final char escape) {
+    return QuotedStrings.readQuoted(this, quote, escape);
+  }
+
+  /**
+   * Reads a {@link #readQuoted() quoted} string if the next character is {@code "}, or an {@link #readUnquoted() unquoted} string otherwise.
+   *
+   * @return the string
+   * @throws StringReaderException if there is no valid quoted string available, in which case the index is not changed
+   */
+  default @NonNull String readQuotedOrUnquoted() {
+    return this.readQuotedOrUnquoted('"', '\\');
+  }
+
+  /**
+   * Reads a {@link #readQuoted(char, char) quoted} string if the next character is {@code quote}, or an {@link #readUnquoted() unquoted} string otherwise.
+   *
+   * @param quote the quote character
+   * @param escape the escape character
+   * @return the string
+   * @throws StringReaderException if there is no valid quoted string available, in which case the index is not changed
+   */
+  default @NonNull String readQuotedOrUnquoted(final char quote, final char escape) {
+    if(this.readable() && this.peek() == quote) {
+      return this.readQuoted(quote, escape);
+    }
+    return this.readUnquoted();
+  }
+
   /**
    * Gets the next character.
    *
@@ -81,4 +386,28 @@ public interface StringReader extends StringReaderGetter {
    * @throws IndexOutOfBoundsException if there is no character available
    */
   char next();
+
+  /**
+   * Gets the next character, if one is available.
+   *
+   * <p>Unlike {@link #next()}, no exception is thrown at the end of the string.</p>
+   *
+   * @return the next character, or {@code -1} if there is no character available
+   */
+  default int tryNext() {
+    return this.readable() ? this.next() : -1;
+  }
+
+  /**
+   * Gets the next character, without checking that one is available.
+   *
+   * <p>This is for loops that have already checked {@link #readable(int) readable} for the characters they
+   * read. If no character is available, the result is undefined - an exception may or may not be thrown, and the
+   * index may or may not be advanced.</p>
+   *
+   * @return the next character
+   */
+  default char nextUnchecked() {
+    return this.next();
+  }
 }
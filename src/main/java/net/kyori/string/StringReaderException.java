@@ -0,0 +1,72 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An exception thrown when a {@link StringReader} fails to read.
+ *
+ * <p>Parsers that try several alternatives may throw and catch many of these, and filling in a stack trace is most
+ * of the cost of doing so. Setting the {@code net.kyori.string.disableStackTraces} system property to {@code true}
+ * stops exceptions created without an explicit choice from capturing one.</p>
+ */
+public class StringReaderException extends RuntimeException {
+  private static final long serialVersionUID = 2734938210561839411L;
+  private static final boolean STACK_TRACES = !Boolean.getBoolean("net.kyori.string.disableStackTraces");
+  private final StringRange range;
+
+  /**
+   * Constructs a new string reader exception.
+   *
+   * <p>A stack trace is captured unless disabled by the {@code net.kyori.string.disableStackTraces} system property.</p>
+   *
+   * @param message the detail message
+   * @param range the range that could not be read
+   */
+  public StringReaderException(final @NonNull String message, final @NonNull StringRange range) {
+    this(message, range, STACK_TRACES);
+  }
+
+  /**
+   * Constructs a new string reader exception.
+   *
+   * @param message the detail message
+   * @param range the range that could not be read
+   * @param stackTrace if a stack trace should be captured
+   */
+  public StringReaderException(final @NonNull String message, final @NonNull StringRange range, final boolean stackTrace) {
+    super(message, null, false, stackTrace);
+    this.range = range;
+  }
+
+  /**
+   * Gets the range that could not be read.
+   *
+   * @return the string range
+   */
+  public @NonNull StringRange range() {
+    return this.range;
+  }
+}
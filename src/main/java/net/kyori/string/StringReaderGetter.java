@@ -25,6 +25,7 @@ package net.kyori.string;
 
 import net.kyori.lambda.StringRepresentable;
 import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public interface StringReaderGetter extends StringRepresentable {
@@ -55,6 +56,105 @@ public interface StringReaderGetter extends StringRepresentable {
     return this.string(range.start(), range.end());
   }
 
+  /**
+   * Gets a substring of the underlying string in range of a {@link StringRanges packed} {@code range}.
+   *
+   * <p>This is not an overload of {@link #string(int, int)}, so an {@code int} index cannot be mistaken for a
+   * packed range.</p>
+   *
+   * @param range the packed string range
+   * @return a string
+   */
+  default @NonNull String stringPacked(final long range) {
+    return this.string(StringRanges.start(range), StringRanges.end(range));
+  }
+
+  /**
+   * Gets a view of the underlying string in range of {@code start} to {@code end}.
+   *
+   * <p>Unlike {@link #string(int, int)}, the characters are not copied.</p>
+   *
+   * @param start the start index
+   * @param end the end index
+   * @return a view
+   */
+  default @NonNull StringView view(final @NonNegative int start, final @NonNegative int end) {
+    return StringView.of(this.asString(), start, end);
+  }
+
+  /**
+   * Gets a view of the underlying string in range of {@code range}.
+   *
+   * <p>Unlike {@link #string(StringRange)}, the characters are not copied.</p>
+   *
+   * @param range the string range
+   * @return a view
+   */
+  default @NonNull StringView view(final @NonNull StringRange range) {
+    return this.view(range.start(), range.end());
+  }
+
+  /**
+   * Gets a view of the underlying string in range of a {@link StringRanges packed} {@code range}.
+   *
+   * <p>Unlike {@link #stringPacked(long)}, the characters are not copied.</p>
+   *
+   * @param range the packed string range
+   * @return a view
+   */
+  default @NonNull StringView viewPacked(final long range) {
+    return this.view(StringRanges.start(range), StringRanges.end(range));
+  }
+
+  /**
+   * Gets the hash code of the underlying string in range of {@code start} to {@code end}, without copying it.
+   *
+   * <p>The hash code is the same as the {@link String#hashCode() hash code} of {@link #string(int, int)}.</p>
+   *
+   * @param start the start index
+   * @param end the end index
+   * @return the hash code
+   */
+  default int hash(final @NonNegative int start, final @NonNegative int end) {
+    return this.view(start, end).hashCode();
+  }
+
+  /**
+   * Gets the hash code of the underlying string in range of {@code range}, without copying it.
+   *
+   * @param range the string range
+   * @return the hash code
+   * @see #hash(int, int)
+   */
+  default int hash(final @NonNull StringRange range) {
+    return this.hash(range.start(), range.end());
+  }
+
+  /**
+   * Checks if the underlying string in range of {@code start} to {@code end} has the same characters as {@code sequence},
+   * without copying it.
+   *
+   * @param start the start index
+   * @param end the end index
+   * @param sequence the character sequence
+   * @return {@code true} if the characters are the same, {@code false} otherwise
+   */
+  default boolean contentEquals(final @NonNegative int start, final @NonNegative int end, final @NonNull CharSequence sequence) {
+    return this.view(start, end).contentEquals(sequence);
+  }
+
+  /**
+   * Checks if the underlying string in range of {@code range} has the same characters as {@code sequence}, without
+   * copying it.
+   *
+   * @param range the string range
+   * @param sequence the character sequence
+   * @return {@code true} if the characters are the same, {@code false} otherwise
+   */
+  default boolean contentEquals(final @NonNull StringRange range, final @NonNull CharSequence sequence) {
+    return this.contentEquals(range.start(), range.end(), sequence);
+  }
+
   /**
    * Gets the total length.
    *
@@ -110,6 +210,133 @@ public interface StringReaderGetter extends StringRepresentable {
    */
   char peek(final int offset);
 
+  /**
+   * Peeks at the next character, if one is available.
+   *
+   * <p>Unlike {@link #peek()}, no exception is thrown at the end of the string.</p>
+   *
+   * @return the next character, or {@code -1} if there is no character available
+   */
+  default int tryPeek() {
+    return this.readable() ? this.peek() : -1;
+  }
+
+  /**
+   * Peeks at the character at {@code index + offset}, if it is available.
+   *
+   * @param offset the offset
+   * @return the character, or {@code -1} if it is not available, as when it is before the start of the string
+   */
+  default int tryPeek(final @NonNegative int offset) {
+    return offset >= 0 && this.readable(offset + 1) ? this.peek(offset) : -1;
+  }
+
+  /**
+   * Peeks at the next character, without checking that one is available.
+   *
+   * <p>This is for loops that have already checked {@link #readable(int) readable} for the characters they
+   * peek at. If no character is available, the result is undefined - an exception may or may not be thrown.</p>
+   *
+   * @return the next character
+   */
+  default char peekUnchecked() {
+    return this.peek();
+  }
+
+  /**
+   * Peeks at the character at {@code index + offset}, without checking that it is available.
+   *
+   * @param offset the offset
+   * @return the character
+   * @see #peekUnchecked()
+   */
+  default char peekUnchecked(final @NonNegative int offset) {
+    return this.peek(offset);
+  }
+
+  /**
+   * Finds the next occurrence of {@code character}, at or after the current index.
+   *
+   * @param character the character
+   * @return the index of the character, or {@code -1} if it does not occur
+   */
+  default int indexOf(final char character) {
+    for(int offset = 0; this.readable(offset + 1); offset++) {
+      if(this.peek(offset) == character) {
+        return this.index() + offset;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the next occurrence of any of {@code characters}, at or after the current index.
+   *
+   * @param characters the characters
+   * @return the index of the first character found, or {@code -1} if none occur
+   */
+  default int indexOfAny(final char @NonNull ... characters) {
+    for(int offset = 0; this.readable(offset + 1); offset++) {
+      if(CharScanning.contains(characters, this.peek(offset))) {
+        return this.index() + offset;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the canonical string in range of {@code range}, creating it only if {@code interner} has not seen
+   * the same characters before.
+   *
+   * @param range the string range
+   * @param interner the interner
+   * @return the canonical string
+   */
+  default @NonNull String intern(final @NonNull StringRange range, final @NonNull TokenInterner interner) {
+    return interner.intern(this.view(range));
+  }
+
+  /**
+   * Gets the one-based line containing {@code index}.
+   *
+   * <p>Readers in this library build an index of line starts on first use, which is shared with their
+   * {@link #copy() copies}, so later lookups are a binary search. The default implementation scans
+   * {@link #asString()} on every call, which is {@code O(n)}.</p>
+   *
+   * @param index the index
+   * @return the line
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+   * @throws UnsupportedOperationException if this reader does not support line lookups
+   */
+  default @Positive int lineOf(final @NonNegative int index) {
+    return LineIndex.of(this.asString()).line(index) + 1;
+  }
+
+  /**
+   * Gets the one-based column of {@code index} within its {@link #lineOf(int) line}.
+   *
+   * <p>Like {@link #lineOf(int)}, the default implementation scans {@link #asString()} on every call.</p>
+   *
+   * @param index the index
+   * @return the column
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+   * @throws UnsupportedOperationException if this reader does not support line lookups
+   */
+  default @Positive int columnOf(final @NonNegative int index) {
+    return LineIndex.of(this.asString()).column(index) + 1;
+  }
+
+  /**
+   * Converts {@code range} to lines and columns.
+   *
+   * @param range the range
+   * @return the line and column range
+   * @throws IndexOutOfBoundsException if {@code range} is out of bounds
+   */
+  default @NonNull LineColumnRange rangeToLineColumn(final @NonNull StringRange range) {
+    return LineColumnRange.of(this.lineOf(range.start()), this.columnOf(range.start()), this.lineOf(range.end()), this.columnOf(range.end()));
+  }
+
   /**
    * Creates a copy.
    *
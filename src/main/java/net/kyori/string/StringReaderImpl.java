@@ -24,19 +24,45 @@
 package net.kyori.string;
 
 import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.IntPredicate;
 
 public class StringReaderImpl implements StringReader {
-  protected final String string;
+  protected String string;
   protected int index;
+  private @Nullable StringBuilder scratch;
+  // created on the first line lookup or copy, so a reader that needs neither does not allocate one
+  private LineIndex.@Nullable Holder lines;
+  // the source this reader was created from, which owns its indexes
+  private @Nullable StringSourceImpl source;
+  // the pool this reader was acquired from, until it is released
+  /* package */ @Nullable StringReaderPool pool;
 
   public StringReaderImpl(final @NonNull String string) {
+    this(string, null);
+  }
+
+  /* package */ StringReaderImpl(final @NonNull String string, final @Nullable StringSourceImpl source) {
     this.string = string;
+    this.source = source;
   }
 
   private StringReaderImpl(final @NonNull StringReaderImpl reader) {
     this.string = reader.string;
     this.index = reader.index;
+    this.lines = reader.source == null ? reader.lineHolder() : null;
+    this.source = reader.source;
+  }
+
+  // resets this reader onto a new string, keeping its buffers
+  /* package */ void reset(final @NonNull String string) {
+    this.string = string;
+    this.index = 0;
+    this.lines = null;
+    this.source = null;
   }
 
   @Override
@@ -81,6 +107,191 @@ public class StringReaderImpl implements StringReader {
     this.index++;
   }
 
+  @Override
+  public void skip(final int n) {
+    if(n > 0) {
+      this.index += n;
+    }
+  }
+
+  @Override
+  public void skip(final @NonNull IntPredicate predicate) {
+    final String string = this.string;
+    final int length = string.length();
+    int index = this.index;
+    while(index < length && predicate.test(string.charAt(index))) {
+      index++;
+    }
+    this.index = index;
+  }
+
+  @Override
+  public void skip(final @NonNull CharMatcher matcher) {
+    final String string = this.string;
+    final int length = string.length();
+    int index = this.index;
+    while(index < length && matcher.matches(string.charAt(index))) {
+      index++;
+    }
+    this.index = index;
+  }
+
+  @Override
+  public void skipWhitespace() {
+    final String string = this.string;
+    final int length = string.length();
+    int index = this.index;
+    while(index < length && Character.isWhitespace(string.charAt(index))) {
+      index++;
+    }
+    this.index = index;
+  }
+
+  @Override
+  public void skipUntil(final char character) {
+    if(this.index < this.string.length()) {
+      final int index = this.string.indexOf(character, this.index);
+      this.index = index == -1 ? this.string.length() : index;
+    }
+  }
+
+  @Override
+  public void skipUntilAny(final char @NonNull ... characters) {
+    if(this.index < this.string.length()) {
+      final int index = CharScanning.indexOfAny(this.string, this.index, this.string.length(), characters);
+      this.index = index == -1 ? this.string.length() : index;
+    }
+  }
+
+  @Override
+  public int indexOf(final char character) {
+    return this.index < this.string.length() ? this.string.indexOf(character, Math.max(this.index, 0)) : -1;
+  }
+
+  @Override
+  public int indexOfAny(final char @NonNull ... characters) {
+    return CharScanning.indexOfAny(this.string, this.index, this.string.length(), characters);
+  }
+
+  @Override
+  public int readInt() {
+    return (int) this.readInteger(Integer.MIN_VALUE, Integer.MAX_VALUE, "integer");
+  }
+
+  @Override
+  public long readLong() {
+    return this.readInteger(Long.MIN_VALUE, Long.MAX_VALUE, "long");
+  }
+
+  private long readInteger(final long min, final long max, final @NonNull String type) {
+    final int start = this.index;
+    final int end = Numbers.integerEnd(this.string, start, this.string.length());
+    try {
+      final long value = Numbers.parseInteger(this.string, start, end, min, max);
+      this.index = end;
+      return value;
+    } catch(final NumberFormatException e) {
+      throw Numbers.invalid(type, start, end);
+    }
+  }
+
+  @Override
+  public double readDouble() {
+    final int start = this.index;
+    final int end = Numbers.decimalEnd(this.string, start, this.string.length());
+    try {
+      final double value = Numbers.parseDouble(this.string, start, end);
+      this.index = end;
+      return value;
+    } catch(final NumberFormatException e) {
+      throw Numbers.invalid("double", start, end);
+    }
+  }
+
+  @Override
+  public boolean readBoolean() {
+    final String string = this.string;
+    final int start = this.index;
+    // the literal must be the whole token, so "trueish" is not read as true
+    int end = start;
+    while(end < string.length() && Character.isLetterOrDigit(string.charAt(end))) end++;
+    if(end - start == 4 && string.startsWith("true", start)) {
+      this.index = end;
+      return true;
+    } else if(end - start == 5 && string.startsWith("false", start)) {
+      this.index = end;
+      return false;
+    }
+    throw Numbers.invalid("boolean", start, end);
+  }
+
+  @Override
+  public @NonNull String readUnquoted() {
+    final String string = this.string;
+    final int length = string.length();
+    final int start = this.index;
+    int end = start;
+    while(end < length && !Character.isWhitespace(string.charAt(end))) {
+      end++;
+    }
+    if(end == start) {
+      return "";
+    }
+    this.index = end;
+    return string.substring(start, end);
+  }
+
+  @Override
+  public @NonNull String readQuoted(final char quote, final char escape) {
+    final String string = this.string;
+    final int length = string.length();
+    final int start = this.index;
+    if(start >= length || string.charAt(start) != quote) {
+      throw QuotedStrings.expectedQuote(start);
+    }
+    // fast path: no escapes, so the content can be returned as a substring
+    int index = start + 1;
+    while(index < length) {
+      final char c = string.charAt(index);
+      if(c == quote) {
+        this.index = index + 1;
+        return string.substring(start + 1, index);
+      } else if(c == escape) {
+        return this.readEscaped(start, index, quote, escape);
+      }
+      index++;
+    }
+    throw QuotedStrings.unterminated(start, length);
+  }
+
+  private @NonNull String readEscaped(final int start, int index, final char quote, final char escape) {
+    final String string = this.string;
+    final int length = string.length();
+    StringBuilder sb = this.scratch;
+    if(sb == null) {
+      sb = this.scratch = new StringBuilder();
+    }
+    sb.setLength(0);
+    sb.append(string, start + 1, index);
+    while(index < length) {
+      final char c = string.charAt(index++);
+      if(c == quote) {
+        this.index = index;
+        return sb.toString();
+      } else if(c == escape) {
+        if(index >= length) break;
+        final char escaped = string.charAt(index++);
+        if(escaped != quote && escaped != escape) {
+          throw QuotedStrings.invalidEscape(index - 2);
+        }
+        sb.append(escaped);
+      } else {
+        sb.append(c);
+      }
+    }
+    throw QuotedStrings.unterminated(start, length);
+  }
+
   @Override
   public char peek() {
     this.assertReadable();
@@ -99,19 +310,119 @@ public class StringReaderImpl implements StringReader {
     return this.string.charAt(this.index++);
   }
 
+  @Override
+  public int tryPeek() {
+    final int index = this.index;
+    return index >= 0 && index < this.string.length() ? this.string.charAt(index) : -1;
+  }
+
+  @Override
+  public int tryPeek(final @NonNegative int offset) {
+    final int index = this.index + offset;
+    return index >= 0 && index < this.string.length() ? this.string.charAt(index) : -1;
+  }
+
+  @Override
+  public int tryNext() {
+    final int index = this.index;
+    if(index < 0 || index >= this.string.length()) return -1;
+    this.index = index + 1;
+    return this.string.charAt(index);
+  }
+
+  @Override
+  public char peekUnchecked() {
+    return this.string.charAt(this.index);
+  }
+
+  @Override
+  public char peekUnchecked(final @NonNegative int offset) {
+    return this.string.charAt(this.index + offset);
+  }
+
+  @Override
+  public char nextUnchecked() {
+    return this.string.charAt(this.index++);
+  }
+
+  @Override
+  public int hash(final @NonNegative int start, final @NonNegative int end) {
+    this.checkRange(start, end);
+    final String string = this.string;
+    int hash = 0;
+    for(int i = start; i < end; i++) {
+      hash = 31 * hash + string.charAt(i);
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean contentEquals(final @NonNegative int start, final @NonNegative int end, final @NonNull CharSequence sequence) {
+    this.checkRange(start, end);
+    final int length = end - start;
+    if(sequence.length() != length) return false;
+    if(sequence instanceof String) {
+      return this.string.regionMatches(start, (String) sequence, 0, length);
+    }
+    for(int i = 0; i < length; i++) {
+      if(this.string.charAt(start + i) != sequence.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public @NonNull String intern(final @NonNull StringRange range, final @NonNull TokenInterner interner) {
+    return interner.intern(this.string, range.start(), range.end());
+  }
+
+  @Override
+  public @Positive int lineOf(final @NonNegative int index) {
+    return this.lines().line(index) + 1;
+  }
+
+  @Override
+  public @Positive int columnOf(final @NonNegative int index) {
+    return this.lines().column(index) + 1;
+  }
+
+  private @NonNull LineIndex lines() {
+    if(this.source != null) return this.source.lines();
+    final LineIndex.Holder holder = this.lineHolder();
+    LineIndex lines = holder.index;
+    if(lines == null) {
+      lines = holder.index = LineIndex.of(this.string);
+    }
+    return lines;
+  }
+
+  private LineIndex.@NonNull Holder lineHolder() {
+    LineIndex.Holder holder = this.lines;
+    if(holder == null) {
+      holder = this.lines = new LineIndex.Holder();
+    }
+    return holder;
+  }
+
   @Override
   public @NonNull StringReader copy() {
     return new StringReaderImpl(this);
   }
 
+  private void checkRange(final int start, final int end) {
+    if(start < 0 || end > this.string.length() || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.string.length());
+    }
+  }
+
   protected void assertReadable() {
-    if(!this.readable()) {
+    // readable() is not called, as a subclass may override it
+    if(this.index >= this.string.length()) {
       throw new StringIndexOutOfBoundsException(this.index);
     }
   }
 
   protected void assertOffsetReadable(final @NonNegative int offset) {
-    if(!this.readable(offset)) {
+    if(this.index + offset > this.string.length()) {
       throw new StringIndexOutOfBoundsException(this.index + offset);
     }
   }
@@ -0,0 +1,90 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A pool of reusable string readers.
+ *
+ * <p>A reader {@link #acquire(String) acquired} from a pool is reset onto its new input, keeping the buffers
+ * it uses for quoted strings, so parsing many short inputs does not allocate a reader for each. Only readers
+ * acquired from a pool should be {@link #release(StringReader) released} to it, and a reader must not be used
+ * once it has been released.</p>
+ *
+ * <p>Pools are thread-safe.</p>
+ */
+public interface StringReaderPool {
+  /**
+   * Creates a pool that retains up to {@code capacity} readers of each kind, shared by all threads.
+   *
+   * @param capacity the capacity
+   * @return a pool
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   */
+  static @NonNull StringReaderPool bounded(final @NonNegative int capacity) {
+    return new BoundedStringReaderPool(capacity);
+  }
+
+  /**
+   * Creates a pool that retains one reader of each kind per thread.
+   *
+   * <p>Acquiring a reader while the thread already holds one of the same kind creates a new reader.</p>
+   *
+   * @return a pool
+   */
+  static @NonNull StringReaderPool threadLocal() {
+    return new ThreadLocalStringReaderPool();
+  }
+
+  /**
+   * Acquires a reader over {@code string}.
+   *
+   * @param string the string
+   * @return a string reader
+   */
+  @NonNull StringReader acquire(final @NonNull String string);
+
+  /**
+   * Acquires a reader over {@code length} characters of {@code chars}, starting at {@code offset}.
+   *
+   * @param chars the characters
+   * @param offset the offset of the first character
+   * @param length the number of characters
+   * @return a string reader
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of bounds of {@code chars}
+   * @see StringReader#create(char[], int, int)
+   */
+  @NonNull StringReader acquire(final char @NonNull [] chars, final @NonNegative int offset, final @NonNegative int length);
+
+  /**
+   * Returns {@code reader} to this pool.
+   *
+   * <p>Releasing a reader that was not acquired from this pool, or releasing a reader twice, has no effect.</p>
+   *
+   * @param reader the reader
+   */
+  void release(final @NonNull StringReader reader);
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.CharBuffer;
+import java.util.Spliterator;
+
+/**
+ * An immutable string that can be read by many readers at once.
+ *
+ * <p>A source is thread-safe, and owns any indexes built over its content, such as the
+ * {@link StringReaderGetter#lineOf(int) line index} - these are built once, the first time a reader needs
+ * them, and shared by every reader created from the source. Readers themselves are not thread-safe, but
+ * are cheap to create, so each thread should {@link #reader() create} its own.</p>
+ */
+public interface StringSource extends CharSequence {
+  /**
+   * Creates a new source.
+   *
+   * @param string the string
+   * @return a source
+   */
+  static @NonNull StringSource of(final @NonNull String string) {
+    return new StringSourceImpl(string, string, null);
+  }
+
+  /**
+   * Creates a new source over {@code chars}.
+   *
+   * <p>The array is not copied, and must not be modified once the source has been created.</p>
+   *
+   * @param chars the characters
+   * @return a source
+   */
+  static @NonNull StringSource of(final char @NonNull [] chars) {
+    return new StringSourceImpl(CharBuffer.wrap(chars), null, chars);
+  }
+
+  /**
+   * Creates a new source over {@code sequence}.
+   *
+   * <p>The characters are not copied, and must not be modified once the source has been created.</p>
+   *
+   * @param sequence the character sequence
+   * @return a source
+   */
+  static @NonNull StringSource of(final @NonNull CharSequence sequence) {
+    if(sequence instanceof StringSource) {
+      return (StringSource) sequence;
+    } else if(sequence instanceof String) {
+      return of((String) sequence);
+    }
+    return new StringSourceImpl(sequence, null, null);
+  }
+
+  /**
+   * Creates a new reader over this source, starting at index {@code 0}.
+   *
+   * @return a string reader
+   */
+  @NonNull StringReader reader();
+
+  /**
+   * Splits this source into chunks of about {@code size} characters, each ending just after a character
+   * matched by {@code boundary}.
+   *
+   * <p>Each chunk is read by its own reader, indexed from the start of the chunk. The spliterator is
+   * {@link Spliterator#ORDERED ordered} and splits in half at a boundary, so chunks can be parsed in parallel
+   * with results collected in order:</p>
+   *
+   * <pre>
+   * StreamSupport.stream(source.split(CharMatcher.is('\n'), 1 &lt;&lt; 16), true)
+   *   .map(Parser::parse)
+   *   .collect(Collectors.toList());
+   * </pre>
+   *
+   * @param boundary the boundary matcher
+   * @param size the target chunk size
+   * @return a spliterator of chunk readers
+   * @throws IllegalArgumentException if {@code size} is not positive
+   */
+  @NonNull Spliterator<StringReader> split(final @NonNull CharMatcher boundary, final @NonNegative int size);
+
+  /**
+   * Gets the hash code of the characters in range of {@code start} to {@code end}, in constant time.
+   *
+   * <p>The hash code is the same as the {@link String#hashCode() hash code} of the range as a string. The first
+   * call builds a table of the hash code of every prefix of this source, which uses eight bytes per character,
+   * so this is worthwhile when many or long ranges are hashed - {@link StringReaderGetter#hash(int, int)} hashes
+   * a single short range without the table.</p>
+   *
+   * @param start the start index
+   * @param end the end index
+   * @return the hash code
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  int hash(final @NonNegative int start, final @NonNegative int end);
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Spliterator;
+
+/* package */ final class StringSourceImpl implements StringSource {
+  private final CharSequence sequence;
+  // the content as a string or an array, when the source was created from one
+  private final @Nullable String string;
+  private final char @Nullable [] chars;
+  // indexes are immutable once built, so they may be built more than once by racing threads, but are always safely published
+  private volatile @Nullable LineIndex lines;
+  private volatile @Nullable PrefixHashes hashes;
+
+  /* package */ StringSourceImpl(final @NonNull CharSequence sequence, final @Nullable String string, final char @Nullable [] chars) {
+    this.sequence = sequence;
+    this.string = string;
+    this.chars = chars;
+  }
+
+  @Override
+  public @NonNull StringReader reader() {
+    if(this.string != null) {
+      return new StringReaderImpl(this.string, this);
+    } else if(this.chars != null) {
+      return new CharArrayReaderImpl(this.chars, 0, this.chars.length, this);
+    }
+    return new CharSequenceReaderImpl(this.sequence, this);
+  }
+
+  // creates a reader over the characters in range of start to end, indexed from start
+  /* package */ @NonNull StringReader reader(final int start, final int end) {
+    if(this.chars != null) {
+      return new CharArrayReaderImpl(this.chars, start, end - start);
+    }
+    return new CharSequenceReaderImpl(StringView.of(this.sequence, start, end));
+  }
+
+  @Override
+  public @NonNull Spliterator<StringReader> split(final @NonNull CharMatcher boundary, final @NonNegative int size) {
+    if(size <= 0) {
+      throw new IllegalArgumentException("size " + size + " must be positive");
+    }
+    return new ChunkSpliterator(this, boundary, size, 0, this.sequence.length());
+  }
+
+  /* package */ @NonNull LineIndex lines() {
+    LineIndex lines = this.lines;
+    if(lines == null) {
+      lines = this.lines = LineIndex.of(this.sequence);
+    }
+    return lines;
+  }
+
+  @Override
+  public int hash(final @NonNegative int start, final @NonNegative int end) {
+    if(start < 0 || end > this.sequence.length() || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.sequence.length());
+    }
+    PrefixHashes hashes = this.hashes;
+    if(hashes == null) {
+      hashes = this.hashes = new PrefixHashes(this.sequence);
+    }
+    // the prefix hash of end, less the prefix hash of start shifted along by the characters in between
+    return hashes.prefixes[end] - hashes.prefixes[start] * hashes.powers[end - start];
+  }
+
+  @Override
+  public int length() {
+    return this.sequence.length();
+  }
+
+  @Override
+  public char charAt(final int index) {
+    return this.sequence.charAt(index);
+  }
+
+  @Override
+  public @NonNull CharSequence subSequence(final int start, final int end) {
+    return this.sequence.subSequence(start, end);
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return this.string != null ? this.string : this.sequence.toString();
+  }
+
+  private static final class PrefixHashes {
+    // the hash code of the first i characters
+    final int[] prefixes;
+    // 31 to the power of i
+    final int[] powers;
+
+    PrefixHashes(final @NonNull CharSequence sequence) {
+      final int length = sequence.length();
+      this.prefixes = new int[length + 1];
+      this.powers = new int[length + 1];
+      this.powers[0] = 1;
+      for(int i = 0; i < length; i++) {
+        this.prefixes[i + 1] = 31 * this.prefixes[i] + sequence.charAt(i);
+        this.powers[i + 1] = 31 * this.powers[i];
+      }
+    }
+  }
+}
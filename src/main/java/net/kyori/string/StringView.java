@@ -0,0 +1,86 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A view of a range of a character sequence.
+ *
+ * <p>A view does not copy the characters it covers. Two views are equal if their content is equal,
+ * and the hash code of a view is equal to the {@link String#hashCode() hash code} of its content.</p>
+ */
+public interface StringView extends CharSequence {
+  /**
+   * Creates a view of {@code sequence} in range of {@code start} to {@code end}.
+   *
+   * @param sequence the character sequence
+   * @param start the start index
+   * @param end the end index
+   * @return a view
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  static @NonNull StringView of(final @NonNull CharSequence sequence, final @NonNegative int start, final @NonNegative int end) {
+    if(start < 0 || end > sequence.length() || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + sequence.length());
+    }
+    return new StringViewImpl(sequence, start, end);
+  }
+
+  /**
+   * Gets the start index in the viewed sequence.
+   *
+   * @return the start index
+   */
+  @NonNegative int start();
+
+  /**
+   * Gets the end index in the viewed sequence.
+   *
+   * @return the end index
+   */
+  @NonNegative int end();
+
+  /**
+   * Checks if the content of this view is equal to {@code sequence}.
+   *
+   * @param sequence the character sequence
+   * @return {@code true} if the content is equal, {@code false} otherwise
+   */
+  boolean contentEquals(final @NonNull CharSequence sequence);
+
+  @Override
+  @NonNull StringView subSequence(final @NonNegative int start, final @NonNegative int end);
+
+  /**
+   * Gets the content of this view as a string.
+   *
+   * <p>This copies the characters covered by this view.</p>
+   *
+   * @return a string
+   */
+  @Override
+  @NonNull String toString();
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/* package */ final class StringViewImpl implements StringView {
+  private final CharSequence sequence;
+  private final int start;
+  private final int end;
+  private int hash;
+
+  /* package */ StringViewImpl(final @NonNull CharSequence sequence, final @NonNegative int start, final @NonNegative int end) {
+    this.sequence = sequence;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  public @NonNegative int start() {
+    return this.start;
+  }
+
+  @Override
+  public @NonNegative int end() {
+    return this.end;
+  }
+
+  @Override
+  public int length() {
+    return this.end - this.start;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    if(index < 0 || index >= this.end - this.start) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return this.sequence.charAt(this.start + index);
+  }
+
+  @Override
+  public @NonNull StringView subSequence(final @NonNegative int start, final @NonNegative int end) {
+    if(start < 0 || end > this.length() || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.length());
+    }
+    return new StringViewImpl(this.sequence, this.start + start, this.start + end);
+  }
+
+  @Override
+  public boolean contentEquals(final @NonNull CharSequence sequence) {
+    final int length = this.end - this.start;
+    if(sequence.length() != length) return false;
+    for(int i = 0; i < length; i++) {
+      if(this.sequence.charAt(this.start + i) != sequence.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    if(this.sequence instanceof String) {
+      return ((String) this.sequence).substring(this.start, this.end);
+    }
+    return new StringBuilder(this.end - this.start).append(this.sequence, this.start, this.end).toString();
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof StringView)) return false;
+    return this.contentEquals((StringView) other);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = this.hash;
+    if(hash == 0) {
+      for(int i = this.start; i < this.end; i++) {
+        hash = 31 * hash + this.sequence.charAt(i);
+      }
+      this.hash = hash;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/* package */ final class ThreadLocalStringReaderPool implements StringReaderPool {
+  private static final char[] EMPTY = new char[0];
+  private final ThreadLocal<Readers> readers = ThreadLocal.withInitial(Readers::new);
+
+  @Override
+  public @NonNull StringReader acquire(final @NonNull String string) {
+    final Readers readers = this.readers.get();
+    if(readers.stringInUse) {
+      return new StringReaderImpl(string);
+    }
+    readers.string.reset(string);
+    readers.stringInUse = true;
+    return readers.string;
+  }
+
+  @Override
+  public @NonNull StringReader acquire(final char @NonNull [] chars, final @NonNegative int offset, final @NonNegative int length) {
+    final Readers readers = this.readers.get();
+    if(readers.arrayInUse) {
+      return new CharArrayReaderImpl(chars, offset, length);
+    }
+    readers.array.reset(chars, offset, length);
+    readers.arrayInUse = true;
+    return readers.array;
+  }
+
+  @Override
+  public void release(final @NonNull StringReader reader) {
+    final Readers readers = this.readers.get();
+    // inputs are dropped, so the pool does not retain them
+    // the in-use flags ignore a second release
+    if(reader == readers.string && readers.stringInUse) {
+      readers.string.reset("");
+      readers.stringInUse = false;
+    } else if(reader == readers.array && readers.arrayInUse) {
+      readers.array.reset(EMPTY, 0, 0);
+      readers.arrayInUse = false;
+    }
+  }
+
+  private static final class Readers {
+    final StringReaderImpl string = new StringReaderImpl("");
+    final CharArrayReaderImpl array = new CharArrayReaderImpl(EMPTY, 0, 0);
+    boolean stringInUse;
+    boolean arrayInUse;
+  }
+}
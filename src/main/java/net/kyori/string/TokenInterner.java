@@ -0,0 +1,109 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Deduplicates strings read from a {@link StringReader}.
+ *
+ * <p>Characters are hashed and compared where they are, so a string is only created the first time a
+ * token is seen. The table is bounded - once full, tokens that have not been used recently are evicted.</p>
+ *
+ * <p>An interner is not thread-safe.</p>
+ */
+public interface TokenInterner {
+  /**
+   * Creates a new token interner holding up to {@code capacity} strings.
+   *
+   * <p>The capacity is rounded up to a power of two, and to at least {@code 8}, so {@code create(1)} can
+   * hold 8 strings.</p>
+   *
+   * @param capacity the capacity
+   * @return a token interner
+   * @throws IllegalArgumentException if {@code capacity} is not positive, or greater than {@code 2^30}
+   */
+  static @NonNull TokenInterner create(final @NonNegative int capacity) {
+    return new TokenInternerImpl(capacity);
+  }
+
+  /**
+   * Gets the canonical string with the characters of {@code sequence} in range of {@code start} to {@code end}.
+   *
+   * @param sequence the characters
+   * @param start the start index
+   * @param end the end index
+   * @return the canonical string
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code sequence}
+   */
+  @NonNull String intern(final @NonNull CharSequence sequence, final @NonNegative int start, final @NonNegative int end);
+
+  /**
+   * Gets the canonical string with the characters of {@code chars} in range of {@code start} to {@code end}.
+   *
+   * @param chars the characters
+   * @param start the start index
+   * @param end the end index
+   * @return the canonical string
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code chars}
+   */
+  @NonNull String intern(final char @NonNull [] chars, final @NonNegative int start, final @NonNegative int end);
+
+  /**
+   * Gets the canonical string with the characters of {@code sequence}.
+   *
+   * @param sequence the characters
+   * @return the canonical string
+   */
+  default @NonNull String intern(final @NonNull CharSequence sequence) {
+    return this.intern(sequence, 0, sequence.length());
+  }
+
+  /**
+   * Gets the number of strings held.
+   *
+   * @return the number of strings
+   */
+  @NonNegative int size();
+
+  /**
+   * Gets the number of lookups that found a canonical string.
+   *
+   * @return the number of hits
+   */
+  @NonNegative long hits();
+
+  /**
+   * Gets the number of lookups that created a new string.
+   *
+   * @return the number of misses
+   */
+  @NonNegative long misses();
+
+  /**
+   * Removes all strings, and resets the counters.
+   */
+  void clear();
+}
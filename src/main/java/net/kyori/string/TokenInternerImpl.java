@@ -0,0 +1,166 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/* package */ final class TokenInternerImpl implements TokenInterner {
+  // the number of slots probed for a hash
+  private static final int WINDOW = 8;
+  // the largest power of two an array can hold
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+  private final @Nullable String[] strings;
+  private final int[] hashes;
+  // the clock reference bit of each slot
+  private final boolean[] referenced;
+  private final int mask;
+  private int size;
+  private long hits;
+  private long misses;
+
+  /* package */ TokenInternerImpl(final @NonNegative int capacity) {
+    if(capacity <= 0 || capacity > MAXIMUM_CAPACITY) {
+      throw new IllegalArgumentException("capacity " + capacity + " must be positive, and no greater than " + MAXIMUM_CAPACITY);
+    }
+    // a table smaller than the probe window would probe slots twice
+    final int length = Math.max(WINDOW, Integer.highestOneBit(capacity - 1) << 1);
+    this.strings = new String[length];
+    this.hashes = new int[length];
+    this.referenced = new boolean[length];
+    this.mask = length - 1;
+  }
+
+  @Override
+  public @NonNull String intern(final @NonNull CharSequence sequence, final @NonNegative int start, final @NonNegative int end) {
+    if(start < 0 || end > sequence.length() || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + sequence.length());
+    }
+    int hash = 0;
+    for(int i = start; i < end; i++) {
+      hash = 31 * hash + sequence.charAt(i);
+    }
+    final int length = end - start;
+    for(int probe = 0; probe < WINDOW; probe++) {
+      final int slot = (Hashing.spread(hash) + probe) & this.mask;
+      final String string = this.strings[slot];
+      if(string != null && this.hashes[slot] == hash && string.length() == length && equals(string, sequence, start)) {
+        return this.hit(slot, string);
+      }
+    }
+    return this.miss(hash, sequence.subSequence(start, end).toString());
+  }
+
+  @Override
+  public @NonNull String intern(final char @NonNull [] chars, final @NonNegative int start, final @NonNegative int end) {
+    if(start < 0 || end > chars.length || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + chars.length);
+    }
+    int hash = 0;
+    for(int i = start; i < end; i++) {
+      hash = 31 * hash + chars[i];
+    }
+    final int length = end - start;
+    for(int probe = 0; probe < WINDOW; probe++) {
+      final int slot = (Hashing.spread(hash) + probe) & this.mask;
+      final String string = this.strings[slot];
+      if(string != null && this.hashes[slot] == hash && string.length() == length && equals(string, chars, start)) {
+        return this.hit(slot, string);
+      }
+    }
+    return this.miss(hash, new String(chars, start, length));
+  }
+
+  private static boolean equals(final @NonNull String string, final @NonNull CharSequence sequence, final int start) {
+    for(int i = 0, length = string.length(); i < length; i++) {
+      if(string.charAt(i) != sequence.charAt(start + i)) return false;
+    }
+    return true;
+  }
+
+  private static boolean equals(final @NonNull String string, final char @NonNull [] chars, final int start) {
+    for(int i = 0, length = string.length(); i < length; i++) {
+      if(string.charAt(i) != chars[start + i]) return false;
+    }
+    return true;
+  }
+
+  private @NonNull String hit(final int slot, final @NonNull String string) {
+    this.referenced[slot] = true;
+    this.hits++;
+    return string;
+  }
+
+  private @NonNull String miss(final int hash, final @NonNull String string) {
+    this.misses++;
+    final int slot = this.victim(hash);
+    if(this.strings[slot] == null) {
+      this.size++;
+    }
+    this.strings[slot] = string;
+    this.hashes[slot] = hash;
+    this.referenced[slot] = false;
+    return string;
+  }
+
+  // finds an empty slot in the window, or sweeps it like a clock for a slot that has not been referenced since the last sweep
+  private int victim(final int hash) {
+    for(int probe = 0; probe < WINDOW; probe++) {
+      final int slot = (Hashing.spread(hash) + probe) & this.mask;
+      if(this.strings[slot] == null) return slot;
+    }
+    for(int probe = 0; ; probe = (probe + 1) % WINDOW) {
+      final int slot = (Hashing.spread(hash) + probe) & this.mask;
+      if(!this.referenced[slot]) return slot;
+      this.referenced[slot] = false;
+    }
+  }
+
+  @Override
+  public @NonNegative int size() {
+    return this.size;
+  }
+
+  @Override
+  public @NonNegative long hits() {
+    return this.hits;
+  }
+
+  @Override
+  public @NonNegative long misses() {
+    return this.misses;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(this.strings, null);
+    Arrays.fill(this.referenced, false);
+    this.size = 0;
+    this.hits = 0;
+    this.misses = 0;
+  }
+}
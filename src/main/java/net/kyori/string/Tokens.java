@@ -0,0 +1,145 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongConsumer;
+
+/* package */ final class Tokens {
+  private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+  // tokens split at delimiters start after the previous token ends, so they are never equal
+  private static final int SPLIT_CHARACTERISTICS = CHARACTERISTICS | Spliterator.DISTINCT;
+
+  private Tokens() {
+  }
+
+  /**
+   * Reads the next token from a reader, skipping any delimiters before it.
+   *
+   * @param reader the reader
+   * @param delimiter the delimiter predicate
+   * @param token the negation of {@code delimiter}
+   * @return the {@link StringRanges packed} range of the token, or {@code -1} if there are no more tokens
+   */
+  private static long next(final @NonNull StringReader reader, final @NonNull IntPredicate delimiter, final @NonNull IntPredicate token) {
+    skip(reader, delimiter);
+    if(!reader.readable()) return -1;
+    final int start = reader.index();
+    skip(reader, token);
+    return StringRanges.pack(start, reader.index());
+  }
+
+  private static void skip(final @NonNull StringReader reader, final @NonNull IntPredicate predicate) {
+    if(predicate instanceof CharMatcher) {
+      reader.skip((CharMatcher) predicate);
+    } else {
+      reader.skip(predicate);
+    }
+  }
+
+  private static @NonNull IntPredicate negate(final @NonNull IntPredicate predicate) {
+    return predicate instanceof CharMatcher ? ((CharMatcher) predicate).negate() : predicate.negate();
+  }
+
+  /* package */ static final class Ranges extends Spliterators.AbstractSpliterator<StringRange> {
+    private final StringReader reader;
+    private final IntPredicate delimiter;
+    private final IntPredicate token;
+
+    /* package */ Ranges(final @NonNull StringReader reader, final @NonNull IntPredicate delimiter) {
+      super(Long.MAX_VALUE, SPLIT_CHARACTERISTICS);
+      this.reader = reader;
+      this.delimiter = delimiter;
+      this.token = negate(delimiter);
+    }
+
+    @Override
+    public boolean tryAdvance(final @NonNull Consumer<? super StringRange> action) {
+      final long range = next(this.reader, this.delimiter, this.token);
+      if(range == -1) return false;
+      action.accept(StringRanges.unpack(range));
+      return true;
+    }
+  }
+
+  /* package */ static final class Packed extends Spliterators.AbstractLongSpliterator {
+    private final StringReader reader;
+    private final IntPredicate delimiter;
+    private final IntPredicate token;
+
+    /* package */ Packed(final @NonNull StringReader reader, final @NonNull IntPredicate delimiter) {
+      super(Long.MAX_VALUE, SPLIT_CHARACTERISTICS);
+      this.reader = reader;
+      this.delimiter = delimiter;
+      this.token = negate(delimiter);
+    }
+
+    @Override
+    public boolean tryAdvance(final @NonNull LongConsumer action) {
+      final long range = next(this.reader, this.delimiter, this.token);
+      if(range == -1) return false;
+      action.accept(range);
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(final @NonNull LongConsumer action) {
+      long range;
+      while((range = next(this.reader, this.delimiter, this.token)) != -1) {
+        action.accept(range);
+      }
+    }
+  }
+
+  /* package */ static final class Scanned extends Spliterators.AbstractSpliterator<StringRange> {
+    private final StringReader reader;
+    private final Function<? super StringReader, ? extends @Nullable StringRange> function;
+
+    /* package */ Scanned(final @NonNull StringReader reader, final @NonNull Function<? super StringReader, ? extends @Nullable StringRange> function) {
+      super(Long.MAX_VALUE, CHARACTERISTICS);
+      this.reader = reader;
+      this.function = function;
+    }
+
+    @Override
+    public boolean tryAdvance(final @NonNull Consumer<? super StringRange> action) {
+      if(!this.reader.readable()) return false;
+      final int index = this.reader.index();
+      final StringRange range = this.function.apply(this.reader);
+      if(range == null) return false;
+      if(this.reader.index() <= index) {
+        throw new IllegalStateException("token function did not advance the reader from " + index);
+      }
+      action.accept(range);
+      return true;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A string reader over UTF-8 encoded bytes, decoded as they are read.
+ *
+ * <p>Indexes, lengths and {@link StringRange ranges} of this reader are byte offsets, while
+ * {@link #readable(int) readable} and {@link #peek(int) peek} count characters. Characters are
+ * decoded on demand, so the input is never held in memory as a {@link String}, unless explicitly
+ * requested with {@link #asString()}.</p>
+ *
+ * <p>A code point outside of the basic multilingual plane is read as two characters - a high and low
+ * surrogate - and the index advances past it once both have been read. Malformed input is read as
+ * {@code U+FFFD}, one byte at a time.</p>
+ */
+public interface Utf8StringReader extends StringReader {
+  /**
+   * Creates a new string reader over the remaining bytes of {@code buffer}.
+   *
+   * <p>The bytes are not copied, and should not be modified while the reader is in use. Indexes of the reader
+   * are relative to the position of the buffer, which is not changed.</p>
+   *
+   * @param buffer the buffer
+   * @return a string reader
+   */
+  static @NonNull Utf8StringReader create(final @NonNull ByteBuffer buffer) {
+    return new Utf8StringReaderImpl(buffer, buffer.position(), buffer.remaining());
+  }
+
+  /**
+   * Creates a new string reader over a file, {@link FileChannel#map(FileChannel.MapMode, long, long) mapped} into memory.
+   *
+   * @param path the path to the file
+   * @return a string reader
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the file is larger than {@link Integer#MAX_VALUE} bytes
+   */
+  static @NonNull Utf8StringReader map(final @NonNull Path path) throws IOException {
+    try(final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if(size > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("File is too large to map: " + size + " bytes");
+      }
+      return create(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+    }
+  }
+
+  /**
+   * Gets the number of characters encoded before {@code index}.
+   *
+   * <p>The first call builds a sparse index of the input, which is shared with {@link #copy() copies}
+   * made afterwards, and later calls decode at most a few kilobytes.</p>
+   *
+   * @param index the byte offset
+   * @return the character offset
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+   */
+  @NonNegative int charOffset(final @NonNegative int index);
+
+  /**
+   * Gets the underlying string, decoding the entire input.
+   *
+   * @return the underlying string
+   */
+  @Override
+  @NonNull String asString();
+
+  @Override
+  @NonNull Utf8StringReader copy();
+}
@@ -0,0 +1,485 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntPredicate;
+
+/* package */ final class Utf8StringReaderImpl implements Utf8StringReader {
+  private static final int REPLACEMENT = 0xfffd;
+  // the number of bytes between checkpoints of the character offset index
+  private static final int CHECKPOINT_SHIFT = 12;
+  private final ByteBuffer buffer;
+  private final int offset;
+  private final int length;
+  private int index;
+  // if the high surrogate of the code point at index has been read
+  private boolean low;
+  private @Nullable Checkpoints checkpoints;
+  private @Nullable StringBuilder scratch;
+  private final LineIndex.Holder lines;
+
+  /* package */ Utf8StringReaderImpl(final @NonNull ByteBuffer buffer, final @NonNegative int offset, final @NonNegative int length) {
+    this.buffer = buffer;
+    this.offset = offset;
+    this.length = length;
+    this.lines = new LineIndex.Holder();
+  }
+
+  private Utf8StringReaderImpl(final @NonNull Utf8StringReaderImpl reader) {
+    this.buffer = reader.buffer;
+    this.offset = reader.offset;
+    this.length = reader.length;
+    this.index = reader.index;
+    this.low = reader.low;
+    this.checkpoints = reader.checkpoints;
+    this.lines = reader.lines;
+  }
+
+  @Override
+  public @NonNull String asString() {
+    return this.string(0, this.length);
+  }
+
+  @Override
+  public @NonNull String string(final @NonNegative int start, final @NonNegative int end) {
+    if(start < 0 || end > this.length || start > end) {
+      throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.length);
+    }
+    // a character is never encoded in less than a byte
+    final char[] chars = new char[end - start];
+    int length = 0;
+    for(int index = start; index < end; ) {
+      final int decoded = this.decode(index);
+      final int codePoint = codePoint(decoded);
+      if(index + width(decoded) > end || (codePoint == REPLACEMENT && width(decoded) == 1)) {
+        // the charset replaces malformed input a sequence at a time, rather than a byte at a time
+        return this.decodeString(start, end);
+      }
+      if(codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+        chars[length++] = Character.highSurrogate(codePoint);
+        chars[length++] = Character.lowSurrogate(codePoint);
+      } else {
+        chars[length++] = (char) codePoint;
+      }
+      index += width(decoded);
+    }
+    return new String(chars, 0, length);
+  }
+
+  private @NonNull String decodeString(final int start, final int end) {
+    final ByteBuffer buffer = this.buffer.duplicate();
+    buffer.limit(this.offset + end);
+    buffer.position(this.offset + start);
+    return StandardCharsets.UTF_8.decode(buffer).toString();
+  }
+
+  @Override
+  public @NonNull String readQuoted(final char quote, final char escape) {
+    StringBuilder scratch = this.scratch;
+    if(scratch == null) {
+      scratch = this.scratch = new StringBuilder();
+    }
+    return QuotedStrings.readQuoted(this, quote, escape, scratch);
+  }
+
+  @Override
+  public @NonNull StringView view(final @NonNegative int start, final @NonNegative int end) {
+    // there are no characters to view without decoding
+    final String string = this.string(start, end);
+    return StringView.of(string, 0, string.length());
+  }
+
+  @Override
+  public @NonNegative int length() {
+    return this.length;
+  }
+
+  @Override
+  public @NonNegative int remaining() {
+    return this.length - this.index;
+  }
+
+  @Override
+  public @NonNegative int index() {
+    return this.index;
+  }
+
+  @Override
+  public @NonNegative int index(final @NonNegative int index) {
+    final int oldIndex = this.index;
+    this.index = index;
+    this.low = false;
+    return oldIndex;
+  }
+
+  @Override
+  public long mark() {
+    // the low surrogate flag is kept above the index
+    return this.low ? this.index | (1L << 32) : this.index;
+  }
+
+  @Override
+  public void reset(final long mark) {
+    this.index = (int) mark;
+    this.low = (mark >>> 32) != 0;
+  }
+
+  @Override
+  public boolean readable(final @NonNegative int length) {
+    if(length <= 0) {
+      return this.index + length <= this.length;
+    }
+    // a character is never encoded in less than a byte
+    return this.index >= 0 && this.index + length <= this.length && this.position(length - 1) != -1;
+  }
+
+  @Override
+  public void skip() {
+    if(this.index < 0 || this.index >= this.length) {
+      this.index++;
+      return;
+    }
+    final int decoded = this.decode(this.index);
+    if(codePoint(decoded) >= Character.MIN_SUPPLEMENTARY_CODE_POINT && !this.low) {
+      this.low = true;
+    } else {
+      this.low = false;
+      this.index += width(decoded);
+    }
+  }
+
+  @Override
+  public void skip(final @NonNull IntPredicate predicate) {
+    final ByteBuffer buffer = this.buffer;
+    final int offset = this.offset;
+    final int length = this.length;
+    while(this.index >= 0 && this.index < length) {
+      final byte b = buffer.get(offset + this.index);
+      if(b >= 0 && !this.low) {
+        // ascii
+        if(!predicate.test(b)) break;
+        this.index++;
+      } else {
+        if(!predicate.test(this.peek())) break;
+        this.skip();
+      }
+    }
+  }
+
+  @Override
+  public void skip(final @NonNull CharMatcher matcher) {
+    final ByteBuffer buffer = this.buffer;
+    final int offset = this.offset;
+    final int length = this.length;
+    while(this.index >= 0 && this.index < length) {
+      final byte b = buffer.get(offset + this.index);
+      if(b >= 0 && !this.low) {
+        // ascii
+        if(!matcher.matches((char) b)) break;
+        this.index++;
+      } else {
+        if(!matcher.matches(this.peek())) break;
+        this.skip();
+      }
+    }
+  }
+
+  @Override
+  public void skipUntil(final char character) {
+    if(character < 0x80 && !this.low && this.index < this.length) {
+      final int index = this.indexOf(character);
+      this.index = index == -1 ? this.length : index;
+    } else {
+      Utf8StringReader.super.skipUntil(character);
+    }
+  }
+
+  @Override
+  public void skipUntilAny(final char @NonNull ... characters) {
+    if(CharScanning.isAscii(characters) && !this.low && this.index < this.length) {
+      final int index = this.indexOfAny(characters);
+      this.index = index == -1 ? this.length : index;
+    } else {
+      Utf8StringReader.super.skipUntilAny(characters);
+    }
+  }
+
+  @Override
+  public int indexOf(final char character) {
+    if(character < 0x80) {
+      // an ascii byte never occurs within the encoding of another code point
+      final ByteBuffer buffer = this.buffer;
+      for(int i = Math.max(this.index, 0); i < this.length; i++) {
+        if(buffer.get(this.offset + i) == character) return i;
+      }
+      return -1;
+    }
+    return this.indexOfAny(character);
+  }
+
+  @Override
+  public int indexOfAny(final char @NonNull ... characters) {
+    final ByteBuffer buffer = this.buffer;
+    if(CharScanning.isAscii(characters)) {
+      final long low = CharScanning.lowMask(characters);
+      final long high = CharScanning.highMask(characters);
+      for(int i = Math.max(this.index, 0); i < this.length; i++) {
+        final byte b = buffer.get(this.offset + i);
+        if(b >= 0 && CharScanning.matches(low, high, (char) b)) return i;
+      }
+      return -1;
+    }
+    int index = Math.max(this.index, 0);
+    boolean low = this.low;
+    while(index < this.length) {
+      if(CharScanning.contains(characters, this.charAt(index, low))) return index;
+      final int decoded = this.decode(index);
+      if(codePoint(decoded) >= Character.MIN_SUPPLEMENTARY_CODE_POINT && !low) {
+        low = true;
+      } else {
+        low = false;
+        index += width(decoded);
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public char peek() {
+    this.assertReadable(this.index);
+    return this.charAt(this.index, this.low);
+  }
+
+  @Override
+  public char peek(final int offset) {
+    final long position = this.position(offset);
+    if(position == -1) {
+      throw new StringIndexOutOfBoundsException(offset);
+    }
+    return this.charAt((int) position, (position >>> 32) != 0);
+  }
+
+  @Override
+  public int tryPeek() {
+    return this.index >= 0 && this.index < this.length ? this.charAt(this.index, this.low) : -1;
+  }
+
+  @Override
+  public int tryPeek(final @NonNegative int offset) {
+    final long position = this.position(offset);
+    return position == -1 ? -1 : this.charAt((int) position, (position >>> 32) != 0);
+  }
+
+  @Override
+  public char next() {
+    this.assertReadable(this.index);
+    final char c = this.charAt(this.index, this.low);
+    this.skip();
+    return c;
+  }
+
+  @Override
+  public int tryNext() {
+    if(this.index < 0 || this.index >= this.length) return -1;
+    final char c = this.charAt(this.index, this.low);
+    this.skip();
+    return c;
+  }
+
+  /*
+   * Finds the character offset characters after the current one, returning its byte
+   * index with the low surrogate flag above it, as a mark, or -1 if it is not available.
+   */
+  private long position(final int offset) {
+    if(offset < 0) return -1;
+    int index = this.index;
+    boolean low = this.low;
+    for(int i = 0; i < offset; i++) {
+      if(index < 0 || index >= this.length) return -1;
+      if(this.buffer.get(this.offset + index) >= 0 && !low) {
+        // ascii
+        index++;
+        continue;
+      }
+      final int decoded = this.decode(index);
+      if(codePoint(decoded) >= Character.MIN_SUPPLEMENTARY_CODE_POINT && !low) {
+        low = true;
+      } else {
+        low = false;
+        index += width(decoded);
+      }
+    }
+    if(index < 0 || index >= this.length) return -1;
+    return low ? index | (1L << 32) : index;
+  }
+
+  @Override
+  public @NonNegative int charOffset(final @NonNegative int index) {
+    if(index < 0 || index > this.length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    Checkpoints checkpoints = this.checkpoints;
+    if(checkpoints == null) {
+      checkpoints = this.checkpoints = this.checkpoints();
+    }
+    int checkpoint = index >>> CHECKPOINT_SHIFT;
+    while(checkpoint > 0 && checkpoints.bytes[checkpoint] > index) {
+      checkpoint--;
+    }
+    int position = checkpoints.bytes[checkpoint];
+    int chars = checkpoints.chars[checkpoint];
+    while(position < index) {
+      final int decoded = this.decode(position);
+      chars += Character.charCount(codePoint(decoded));
+      position += width(decoded);
+    }
+    return chars;
+  }
+
+  private @NonNull Checkpoints checkpoints() {
+    final int count = (this.length >>> CHECKPOINT_SHIFT) + 1;
+    final int[] bytes = new int[count];
+    final int[] chars = new int[count];
+    int position = 0;
+    int characters = 0;
+    for(int checkpoint = 0; checkpoint < count; checkpoint++) {
+      final int target = checkpoint << CHECKPOINT_SHIFT;
+      while(position < target) {
+        final int decoded = this.decode(position);
+        characters += Character.charCount(codePoint(decoded));
+        position += width(decoded);
+      }
+      // the first code point boundary at or after the target
+      bytes[checkpoint] = position;
+      chars[checkpoint] = characters;
+    }
+    return new Checkpoints(bytes, chars);
+  }
+
+  @Override
+  public @Positive int lineOf(final @NonNegative int index) {
+    return this.lines().line(index) + 1;
+  }
+
+  @Override
+  public @Positive int columnOf(final @NonNegative int index) {
+    final LineIndex lines = this.lines();
+    // columns are counted in characters, not bytes
+    return this.charOffset(index) - this.charOffset(lines.start(lines.line(index))) + 1;
+  }
+
+  private @NonNull LineIndex lines() {
+    LineIndex lines = this.lines.index;
+    if(lines == null) {
+      lines = this.lines.index = LineIndex.of(this.buffer, this.offset, this.length);
+    }
+    return lines;
+  }
+
+  @Override
+  public @NonNull Utf8StringReader copy() {
+    return new Utf8StringReaderImpl(this);
+  }
+
+  private void assertReadable(final int index) {
+    if(index < 0 || index >= this.length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+  }
+
+  private char charAt(final int index, final boolean low) {
+    final int codePoint = codePoint(this.decode(index));
+    if(codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+      return low ? Character.lowSurrogate(codePoint) : Character.highSurrogate(codePoint);
+    }
+    return (char) codePoint;
+  }
+
+  /*
+   * Decodes the code point at index, returning it in the lower 24 bits, and
+   * the number of bytes it is encoded in in the upper 8 bits.
+   */
+  private int decode(final int index) {
+    final ByteBuffer buffer = this.buffer;
+    final int position = this.offset + index;
+    final int b0 = buffer.get(position) & 0xff;
+    if(b0 < 0x80) {
+      return b0 | 1 << 24;
+    }
+    final int remaining = this.length - index;
+    if((b0 & 0xe0) == 0xc0 && remaining >= 2) {
+      final int b1 = buffer.get(position + 1);
+      if(isContinuation(b1)) {
+        final int codePoint = (b0 & 0x1f) << 6 | (b1 & 0x3f);
+        if(codePoint >= 0x80) return codePoint | 2 << 24;
+      }
+    } else if((b0 & 0xf0) == 0xe0 && remaining >= 3) {
+      final int b1 = buffer.get(position + 1);
+      final int b2 = buffer.get(position + 2);
+      if(isContinuation(b1) && isContinuation(b2)) {
+        final int codePoint = (b0 & 0x0f) << 12 | (b1 & 0x3f) << 6 | (b2 & 0x3f);
+        if(codePoint >= 0x800 && !Character.isSurrogate((char) codePoint)) return codePoint | 3 << 24;
+      }
+    } else if((b0 & 0xf8) == 0xf0 && remaining >= 4) {
+      final int b1 = buffer.get(position + 1);
+      final int b2 = buffer.get(position + 2);
+      final int b3 = buffer.get(position + 3);
+      if(isContinuation(b1) && isContinuation(b2) && isContinuation(b3)) {
+        final int codePoint = (b0 & 0x07) << 18 | (b1 & 0x3f) << 12 | (b2 & 0x3f) << 6 | (b3 & 0x3f);
+        if(codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT && codePoint <= Character.MAX_CODE_POINT) return codePoint | 4 << 24;
+      }
+    }
+    return REPLACEMENT | 1 << 24;
+  }
+
+  private static boolean isContinuation(final int b) {
+    return (b & 0xc0) == 0x80;
+  }
+
+  private static int codePoint(final int decoded) {
+    return decoded & 0xffffff;
+  }
+
+  private static int width(final int decoded) {
+    return decoded >>> 24;
+  }
+
+  // byte offsets of code point boundaries, and the number of characters before them
+  private static final class Checkpoints {
+    final int[] bytes;
+    final int[] chars;
+
+    Checkpoints(final int @NonNull [] bytes, final int @NonNull [] chars) {
+      this.bytes = bytes;
+      this.chars = chars;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CharMatcherTest {
+  @Test
+  void testSanity() {
+    assertThrows(IllegalArgumentException.class, () -> CharMatcher.range('z', 'a'));
+  }
+
+  @Test
+  void testAnyNone() {
+    for(char c = 0; c < 512; c++) {
+      assertTrue(CharMatcher.any().matches(c));
+      assertFalse(CharMatcher.none().matches(c));
+    }
+    assertTrue(CharMatcher.any().matches(Character.MAX_VALUE));
+  }
+
+  @Test
+  void testWhitespace() {
+    for(char c = 0; c < 0x3100; c++) {
+      assertEquals(Character.isWhitespace(c), CharMatcher.whitespace().matches(c));
+    }
+  }
+
+  @Test
+  void testIs() {
+    final CharMatcher matcher = CharMatcher.is('@');
+    assertTrue(matcher.matches('@'));
+    assertFalse(matcher.matches('A'));
+    assertTrue(CharMatcher.is('é').matches('é'));
+    assertFalse(CharMatcher.is('é').matches('e'));
+  }
+
+  @Test
+  void testAnyOf() {
+    final CharMatcher matcher = CharMatcher.anyOf(',', ':', 'é');
+    assertTrue(matcher.matches(','));
+    assertTrue(matcher.matches(':'));
+    assertTrue(matcher.matches('é'));
+    assertFalse(matcher.matches(';'));
+    assertTrue(CharMatcher.anyOf("?!").matches('!'));
+  }
+
+  @Test
+  void testRange() {
+    final CharMatcher matcher = CharMatcher.range('a', 'z');
+    assertTrue(matcher.matches('a'));
+    assertTrue(matcher.matches('z'));
+    assertFalse(matcher.matches('A'));
+    assertFalse(matcher.matches('{'));
+    assertTrue(CharMatcher.digit().matches('7'));
+    assertFalse(CharMatcher.digit().matches('a'));
+  }
+
+  @Test
+  void testCombine() {
+    final CharMatcher identifier = CharMatcher.range('a', 'z').or(CharMatcher.digit()).or(CharMatcher.is('_'));
+    assertTrue(identifier.matches('q'));
+    assertTrue(identifier.matches('3'));
+    assertTrue(identifier.matches('_'));
+    assertFalse(identifier.matches('-'));
+    final CharMatcher notIdentifier = identifier.negate();
+    assertFalse(notIdentifier.matches('q'));
+    assertTrue(notIdentifier.matches('-'));
+    assertTrue(notIdentifier.matches('é'));
+    final CharMatcher vowels = CharMatcher.range('a', 'z').and(CharMatcher.anyOf("aeiou"));
+    assertTrue(vowels.matches('e'));
+    assertFalse(vowels.matches('b'));
+    assertFalse(vowels.matches('E'));
+  }
+
+  @Test
+  void testTest() {
+    final CharMatcher matcher = CharMatcher.of(Character::isLetter);
+    assertTrue(matcher.test('a'));
+    assertTrue(matcher.test('é'));
+    assertFalse(matcher.test('1'));
+    assertFalse(matcher.test(-1));
+  }
+
+  @Test
+  void testRead() {
+    final CharMatcher word = CharMatcher.range('a', 'z');
+    for(final StringReader reader : StringReaderSourcesTest.readers("foo  bar")) {
+      assertEquals(StringRange.between(0, 3), reader.read(word));
+      reader.skip(CharMatcher.whitespace());
+      assertEquals(5, reader.index());
+      assertEquals("bar", reader.string(reader.read(word)));
+      assertFalse(reader.readable());
+      assertTrue(reader.read(word).isEmpty());
+    }
+  }
+
+  @Test
+  void testRead_utf8() {
+    final Utf8StringReader reader = Utf8StringReader.create(ByteBuffer.wrap("héllo wörld".getBytes(StandardCharsets.UTF_8)));
+    assertEquals("héllo", reader.string(reader.read(CharMatcher.of(Character::isLetter))));
+    reader.skip(CharMatcher.whitespace());
+    assertEquals('w', reader.peek());
+  }
+
+  @Test
+  void testRead_streaming() {
+    final StreamingStringReader reader = StreamingStringReader.create(new java.io.StringReader("aaaaaaaaaab"), 4, 2);
+    reader.skip(CharMatcher.is('a'));
+    assertEquals(10, reader.index());
+    assertEquals('b', reader.next());
+  }
+}
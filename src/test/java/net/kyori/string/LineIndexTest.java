@@ -0,0 +1,105 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LineIndexTest {
+  @Test
+  void testLineOf() {
+    for(final StringReader reader : StringReaderSourcesTest.readers("ab\ncd\r\nef\rg")) {
+      assertEquals(1, reader.lineOf(0));
+      assertEquals(1, reader.lineOf(2)); // the line break belongs to its line
+      assertEquals(2, reader.lineOf(3));
+      assertEquals(2, reader.lineOf(6));
+      assertEquals(3, reader.lineOf(7));
+      assertEquals(4, reader.lineOf(10));
+      assertEquals(4, reader.lineOf(11)); // the end of the string
+      assertThrows(IndexOutOfBoundsException.class, () -> reader.lineOf(12));
+    }
+  }
+
+  @Test
+  void testColumnOf() {
+    for(final StringReader reader : StringReaderSourcesTest.readers("ab\ncd\r\nef\rg")) {
+      assertEquals(1, reader.columnOf(0));
+      assertEquals(3, reader.columnOf(2));
+      assertEquals(1, reader.columnOf(3));
+      assertEquals(4, reader.columnOf(6));
+      assertEquals(2, reader.columnOf(11));
+    }
+  }
+
+  @Test
+  void testEmptyLines() {
+    final StringReader reader = StringReader.create("\n\n\r\r\n");
+    assertEquals(1, reader.lineOf(0));
+    assertEquals(2, reader.lineOf(1));
+    assertEquals(3, reader.lineOf(2));
+    assertEquals(4, reader.lineOf(3));
+    assertEquals(5, reader.lineOf(5));
+  }
+
+  @Test
+  void testRangeToLineColumn() {
+    final StringReader reader = StringReader.create("foo\nbar baz\n");
+    final LineColumnRange range = reader.rangeToLineColumn(StringRange.between(8, 11));
+    assertEquals(LineColumnRange.of(2, 5, 2, 8), range);
+    assertEquals("2:5-2:8", range.toString());
+    assertEquals(LineColumnRange.of(1, 2, 2, 2), reader.copy().rangeToLineColumn(StringRange.between(1, 5)));
+  }
+
+  @Test
+  void testCopy() {
+    for(final StringReader reader : StringReaderSourcesTest.readers("a\nb\nc")) {
+      final StringReader copy = reader.copy(); // copied before the index is built
+      assertEquals(3, copy.lineOf(4));
+      assertEquals(2, reader.lineOf(2));
+      assertEquals(1, reader.copy().columnOf(4));
+    }
+    final StringReaderImpl reader = new StringReaderImpl("a\nb");
+    final StringReader copy = reader.copy();
+    assertEquals(2, copy.lineOf(2));
+    reader.reset("ab"); // the copy keeps the index of the old string
+    assertEquals(1, reader.lineOf(2));
+    assertEquals(2, copy.lineOf(2));
+    assertThrows(UnsupportedOperationException.class, () -> StreamingStringReader.create(new java.io.StringReader("a"), 4, 2).lineOf(0));
+  }
+
+  @Test
+  void testUtf8() {
+    final Utf8StringReader reader = Utf8StringReader.create(ByteBuffer.wrap("é\n€😀x".getBytes(StandardCharsets.UTF_8)));
+    assertEquals(1, reader.lineOf(0));
+    assertEquals(2, reader.lineOf(3));
+    assertEquals(1, reader.columnOf(3));
+    assertEquals(2, reader.columnOf(6)); // after the 3 byte euro sign
+    assertEquals(4, reader.columnOf(10)); // after the surrogate pair
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LiteralTrieTest {
+  private static final LiteralTrie TRIE = LiteralTrie.compile(Arrays.asList("give", "gamemode", "game", "g", "tp", "é"));
+
+  @Test
+  void testSanity() {
+    assertThrows(IllegalArgumentException.class, () -> LiteralTrie.compile(Arrays.asList("a", "")));
+    assertThrows(IllegalArgumentException.class, () -> LiteralTrie.compile(Arrays.asList("a", "a")));
+    final Map<String, Integer> negative = new HashMap<>();
+    negative.put("a", -2);
+    assertThrows(IllegalArgumentException.class, () -> LiteralTrie.compile(negative));
+  }
+
+  @Test
+  void testMatch() {
+    for(final StringReader reader : StringReaderSourcesTest.readers("gamemode gamer gx tp é")) {
+      assertEquals(1, TRIE.match(reader)); // the longest match
+      assertEquals(8, reader.index());
+      reader.skip();
+      assertEquals(2, TRIE.match(reader));
+      assertEquals(13, reader.index());
+      assertEquals(-1, TRIE.match(reader)); // the reader is not moved
+      assertEquals(13, reader.index());
+      reader.skip(2);
+      assertEquals(3, TRIE.match(reader)); // falls back to a shorter literal
+      assertEquals(16, reader.index());
+      reader.skip(2);
+      assertEquals(4, TRIE.match(reader));
+      reader.skip();
+      assertEquals(5, TRIE.match(reader));
+      assertEquals(-1, TRIE.match(reader)); // at the end
+    }
+  }
+
+  @Test
+  void testMatch_utf8() {
+    final LiteralTrie trie = LiteralTrie.compile(Arrays.asList("aé", "aéx"));
+    final StringReader reader = Utf8StringReader.create(ByteBuffer.wrap("aé".getBytes(StandardCharsets.UTF_8)));
+    assertEquals(0, trie.match(reader));
+    assertEquals(3, reader.index()); // a byte offset
+  }
+
+  @Test
+  void testMatch_map() {
+    final Map<String, Integer> literals = new HashMap<>();
+    literals.put("true", 1);
+    literals.put("yes", 1);
+    literals.put("false", 0);
+    final LiteralTrie trie = LiteralTrie.compile(literals);
+    final StringReader reader = StringReader.create("yes");
+    assertEquals(1, trie.match(reader));
+    assertEquals(-1, LiteralTrie.compile(Collections.emptyMap()).match(StringReader.create("yes")));
+  }
+}
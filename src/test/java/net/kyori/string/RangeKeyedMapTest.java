@@ -0,0 +1,121 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RangeKeyedMapTest {
+  private static final RangeKeyedMap<Integer> MAP;
+
+  static {
+    final Map<String, Integer> map = new HashMap<>();
+    map.put("give", 1);
+    map.put("tp", 2);
+    map.put("say", 3);
+    map.put("", 4);
+    // "Aa" and "BB" have the same hash code
+    map.put("Aa", 5);
+    map.put("BB", 6);
+    MAP = RangeKeyedMap.of(map);
+  }
+
+  @Test
+  void testSanity() {
+    final Map<String, Integer> map = new HashMap<>();
+    map.put("foo", null);
+    assertThrows(NullPointerException.class, () -> RangeKeyedMap.of(map));
+  }
+
+  @Test
+  void testGet() {
+    assertEquals(6, MAP.size());
+    for(final StringReader reader : StringReaderSourcesTest.readers("tp say giveaway BB")) {
+      assertEquals(Integer.valueOf(2), MAP.get(reader, StringRange.between(0, 2)));
+      assertEquals(Integer.valueOf(3), MAP.get(reader, StringRange.between(3, 6)));
+      assertEquals(Integer.valueOf(1), MAP.getPacked(reader, StringRanges.pack(7, 11)));
+      assertNull(MAP.get(reader, 7, 15));
+      assertEquals(Integer.valueOf(4), MAP.get(reader, 2, 2));
+      assertEquals(Integer.valueOf(6), MAP.get(reader, 16, 18));
+      assertThrows(IndexOutOfBoundsException.class, () -> MAP.get(reader, 16, 19));
+    }
+  }
+
+  @Test
+  void testGet_utf8() {
+    // indexes of a utf-8 reader are byte offsets, so a range is longer than its key
+    final Map<String, Integer> map = new HashMap<>();
+    map.put("é", 1);
+    map.put("€😀", 2);
+    final RangeKeyedMap<Integer> utf8 = RangeKeyedMap.of(map);
+    final StringReader reader = Utf8StringReader.create(ByteBuffer.wrap("é €😀".getBytes(StandardCharsets.UTF_8)));
+    assertEquals(Integer.valueOf(1), utf8.get(reader, 0, 2));
+    assertEquals(Integer.valueOf(2), utf8.get(reader, 3, 10));
+    assertNull(utf8.get(reader, 0, 3));
+  }
+
+  @Test
+  void testGet_key() {
+    assertEquals(Integer.valueOf(1), MAP.get("give"));
+    assertEquals(Integer.valueOf(5), MAP.get(new StringBuilder("Aa")));
+    assertEquals(Integer.valueOf(6), MAP.get("BB"));
+    assertNull(MAP.get("kill"));
+  }
+
+  @Test
+  void testHash() {
+    for(final StringReader reader : StringReaderSourcesTest.readers("foo bar")) {
+      assertEquals("bar".hashCode(), reader.hash(StringRange.between(4, 7)));
+      assertEquals(0, reader.hash(3, 3));
+      assertTrue(reader.contentEquals(StringRange.between(0, 3), "foo"));
+      assertTrue(reader.contentEquals(0, 3, new StringBuilder("foo")));
+      assertFalse(reader.contentEquals(0, 3, "fob"));
+      assertFalse(reader.contentEquals(0, 3, "fo"));
+      assertThrows(IndexOutOfBoundsException.class, () -> reader.hash(4, 8));
+    }
+  }
+
+  @Test
+  void testHash_source() {
+    final String string = "the quick brown fox jumps over the lazy dog";
+    for(final StringSource source : new StringSource[]{StringSource.of(string), StringSource.of(string.toCharArray())}) {
+      for(int start = 0; start <= string.length(); start += 3) {
+        for(int end = start; end <= string.length(); end += 5) {
+          assertEquals(string.substring(start, end).hashCode(), source.hash(start, end));
+        }
+      }
+      assertThrows(IndexOutOfBoundsException.class, () -> source.hash(2, 1));
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReaderMetricsTest {
+  @Test
+  void testDisabled() {
+    final StringReader reader = StringReader.create("foo");
+    final ReaderMetrics metrics = ReaderMetrics.disabled();
+    assertFalse(metrics.enabled());
+    assertSame(reader, metrics.instrument(reader));
+    assertEquals(0, metrics.snapshot().read());
+  }
+
+  @Test
+  void testCounters() {
+    for(final StringReader source : StringReaderSourcesTest.readers("foo 123 \"bar\" baz")) {
+      final ReaderMetrics metrics = ReaderMetrics.create();
+      assertTrue(metrics.enabled());
+      final StringReader reader = metrics.instrument(source);
+      assertEquals('f', reader.peek());
+      assertEquals('o', reader.peek(1));
+      assertEquals('f', reader.tryPeek());
+      assertEquals('f', reader.next());
+      reader.skip(2);
+      reader.skipWhitespace();
+      assertEquals(123, reader.readInt());
+      reader.skipWhitespace();
+      assertEquals("bar", reader.readQuoted());
+      assertEquals("foo", reader.string(0, 3));
+      reader.index(0);
+      final StringReader copy = reader.copy();
+      copy.skip();
+      assertThrows(IndexOutOfBoundsException.class, () -> reader.string(0, 100));
+      assertNull(reader.attempt(r -> {
+        r.skip(3);
+        return null;
+      }));
+      final ReaderMetrics.Snapshot snapshot = metrics.snapshot();
+      assertEquals(17, snapshot.read());
+      assertEquals(3, snapshot.peeks());
+      assertEquals(2, snapshot.rewinds());
+      assertEquals(6, snapshot.materialized());
+      assertEquals(1, snapshot.copies());
+      assertEquals(1, snapshot.exceptions());
+      assertEquals(0, source.index()); // the decorated reader moves with the instrumented one
+      metrics.reset();
+      assertEquals(0, metrics.snapshot().read());
+    }
+  }
+
+  @Test
+  void testExceptions() {
+    final ReaderMetrics metrics = ReaderMetrics.create();
+    final StringReader reader = metrics.instrument(StreamingStringReader.create(new Reader() {
+      @Override
+      public int read(final char[] buffer, final int offset, final int length) throws IOException {
+        throw new IOException("closed");
+      }
+
+      @Override
+      public void close() {
+      }
+    }, 8, 4));
+    assertThrows(UncheckedIOException.class, () -> reader.skip(Character::isLetter));
+    assertThrows(UncheckedIOException.class, () -> reader.skip(CharMatcher.digit()));
+    assertThrows(UncheckedIOException.class, reader::skipWhitespace);
+    assertThrows(UncheckedIOException.class, reader::tryNext);
+    assertThrows(UnsupportedOperationException.class, reader::copy);
+    assertEquals(5, metrics.snapshot().exceptions());
+    assertEquals(0, metrics.snapshot().copies());
+  }
+
+  @Test
+  void testTokens() {
+    final ReaderMetrics metrics = ReaderMetrics.create();
+    final StringReader reader = metrics.instrument(StringReader.create("a bb ccc"));
+    assertEquals(3, reader.tokens(Character::isWhitespace).count());
+    assertEquals(8, metrics.snapshot().read());
+  }
+
+  @Test
+  void testConcurrency() throws Exception {
+    final ReaderMetrics metrics = ReaderMetrics.create();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for(int i = 0; i < 4; i++) {
+        futures.add(executor.submit(() -> {
+          for(int j = 0; j < 1000; j++) {
+            final StringReader reader = metrics.instrument(StringReader.create("foo"));
+            while(reader.readable()) {
+              reader.next();
+            }
+          }
+        }));
+      }
+      for(final Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(12000, metrics.snapshot().read());
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingStringReaderTest {
+  @Test
+  void testSanity() {
+    assertThrows(IllegalArgumentException.class, () -> StreamingStringReader.create(new StringReader(""), 4, 0));
+    assertThrows(IllegalArgumentException.class, () -> StreamingStringReader.create(new StringReader(""), 4, 5));
+  }
+
+  @Test
+  void testRead() {
+    final StreamingStringReader reader = StreamingStringReader.create(new StringReader("foo 12 \"bar\""), 8, 4);
+    assertEquals("foo", reader.readUnquoted());
+    reader.skipWhitespace();
+    assertEquals(12, reader.readInt());
+    reader.skip();
+    assertEquals("bar", reader.readQuoted());
+    assertFalse(reader.readable());
+    assertEquals(12, reader.length());
+    assertThrows(IndexOutOfBoundsException.class, reader::next);
+  }
+
+  @Test
+  void testTry() {
+    final StreamingStringReader reader = StreamingStringReader.create(new StringReader("ab"), 4, 2);
+    assertEquals('a', reader.tryPeek());
+    assertEquals('b', reader.tryPeek(1));
+    assertEquals(-1, reader.tryPeek(2));
+    assertEquals(-1, reader.tryPeek(4)); // beyond the lookahead
+    assertEquals('a', reader.tryNext());
+    assertEquals('b', reader.tryNext());
+    assertEquals(-1, reader.tryNext());
+    assertEquals(-1, reader.tryPeek());
+    assertEquals(2, reader.index());
+  }
+
+  @Test
+  void testLookahead() {
+    final StreamingStringReader reader = StreamingStringReader.create(new StringReader("false"), 8, 4);
+    assertTrue(reader.readable(4));
+    assertFalse(reader.readable(5)); // beyond the lookahead, rather than an error
+    assertThrows(StringReaderException.class, reader::readBoolean);
+    assertFalse(StreamingStringReader.create(new StringReader("false"), 8, 5).readBoolean());
+  }
+
+  @Test
+  void testQuoted_window() {
+    final StringBuilder sb = new StringBuilder("\"");
+    for(int i = 0; i < 50; i++) sb.append('a');
+    assertThrows(StringReaderException.class, StreamingStringReader.create(new StringReader(sb.toString()), 8, 4)::readQuoted);
+    sb.append("\\x\"");
+    assertThrows(StringReaderException.class, StreamingStringReader.create(new StringReader(sb.toString()), 8, 4)::readQuoted);
+  }
+
+  @Test
+  void testWindow() {
+    final StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 1000; i++) {
+      sb.append((char) ('a' + i % 26));
+    }
+    final StreamingStringReader reader = StreamingStringReader.create(new StringReader(sb.toString()), 16, 4);
+    for(int i = 0; i < 1000; i++) {
+      assertTrue(reader.readable());
+      if(reader.readable(4)) {
+        assertEquals(sb.charAt(i + 3), reader.peek(3));
+      }
+      assertEquals(sb.charAt(i), reader.next());
+      assertTrue(reader.length() - reader.windowStart() <= 16);
+    }
+    assertFalse(reader.readable());
+    assertTrue(reader.windowStart() > 0);
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.index(0));
+    reader.index(reader.windowStart());
+    assertEquals(sb.charAt(reader.windowStart()), reader.peek());
+    assertThrows(IllegalArgumentException.class, () -> reader.peek(4));
+  }
+
+  @Test
+  void testIndexOf() {
+    final StreamingStringReader reader = StreamingStringReader.create(new StringReader("abcdefgh,ijklmnopq;"), 8, 4);
+    assertEquals(-1, reader.indexOf(',')); // beyond the lookahead
+    reader.skip(6);
+    assertEquals(8, reader.indexOf(','));
+    assertEquals(8, reader.indexOfAny(';', ','));
+    reader.skipUntilAny(';');
+    assertEquals(18, reader.index());
+  }
+
+  @Test
+  void testString() {
+    final StreamingStringReader reader = StreamingStringReader.create(new StringReader("abcdefghijklmnopqrstuvwxyz"), 8, 4);
+    assertEquals("abc", reader.string(0, 3));
+    reader.skip(20);
+    assertEquals('u', reader.next());
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.string(0, 3));
+    assertEquals("uvwx", reader.string(20, 24));
+    assertThrows(UnsupportedOperationException.class, reader::asString);
+    assertThrows(UnsupportedOperationException.class, reader::copy);
+  }
+
+  @Test
+  void testChannel() {
+    final StreamingStringReader reader = StreamingStringReader.create(Channels.newChannel(new ByteArrayInputStream("café".getBytes(StandardCharsets.UTF_8))), StandardCharsets.UTF_8);
+    assertEquals("café", reader.readUnquoted());
+    reader.close();
+  }
+}
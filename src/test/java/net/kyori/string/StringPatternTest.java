@@ -0,0 +1,120 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringPatternTest {
+  @Test
+  void testSanity() {
+    for(final String pattern : new String[]{"(a", "a)", "[a", "*a", "a{2}", "[z-a]", "\\q", "é", "[é]", "a\\", "^a", "a$"}) {
+      assertThrows(PatternSyntaxException.class, () -> StringPattern.compile(pattern), pattern);
+    }
+    assertThrows(PatternSyntaxException.class, () -> StringPattern.compile("(a|b)*a(a|b)(a|b)(a|b)(a|b)(a|b)(a|b)(a|b)(a|b)(a|b)(a|b)(a|b)(a|b)"));
+  }
+
+  @Test
+  void testCache() {
+    assertSame(StringPattern.compile("[a-z]+"), StringPattern.compile("[a-z]+"));
+    assertEquals("[a-z]+", StringPattern.compile("[a-z]+").pattern());
+  }
+
+  @Test
+  void testMatches() {
+    // compared against java.util.regex
+    final String[] patterns = {"abc", "a*", "a+b?", "(ab|cd)*e", "[a-c]+", "[^a-c]+", "[a\\-z]", "[-a]", "[a-]", "\\d+(\\.\\d*)?", "\\w+", "\\s*", "\\S", "\\W", "\\D", ".*", "a|", "()", "[\\d_]+", "[]a]", "\\.", "(a*)*b", ".", "a.b", "[^a]"};
+    final String[] inputs = {"", "a", "aa", "ab", "abc", "abcd", "cd", "cdabe", "e", "b", "-", "z", "12", "12.", "1.5", "_x9", " \t", "é", "]", ".", "aab", "ab!", "\n", "\r", "\u0085", "\u2028", "a\nb", "a\u2029b"};
+    for(final String pattern : patterns) {
+      final StringPattern compiled = StringPattern.compile(pattern);
+      final java.util.regex.Pattern expected = java.util.regex.Pattern.compile(pattern);
+      for(final String input : inputs) {
+        assertEquals(expected.matcher(input).matches(), compiled.matches(input), () -> pattern + " on '" + input + "'");
+      }
+    }
+  }
+
+  @Test
+  void testMatch() {
+    final StringPattern number = StringPattern.compile("-?\\d+(\\.\\d+)?");
+    for(final StringReader reader : StringReaderSourcesTest.readers("12.5x -3. 7")) {
+      assertEquals(StringRanges.pack(0, 4), number.match(reader)); // the longest match
+      assertEquals(4, reader.index());
+      assertEquals(-1, number.match(reader)); // the reader is not moved
+      assertEquals(4, reader.index());
+      reader.skip(2);
+      assertEquals(StringRanges.pack(6, 8), number.match(reader)); // backs off to the last accepting state
+      assertEquals('.', reader.peek());
+      reader.skip(2);
+      assertEquals("7", reader.stringPacked(number.match(reader)));
+      assertFalse(reader.readable());
+    }
+  }
+
+  @Test
+  void testMatch_empty() {
+    final StringReader reader = StringReader.create("b");
+    assertEquals(StringRanges.pack(0, 0), StringPattern.compile("a*").match(reader));
+    assertEquals(0, reader.index());
+  }
+
+  @Test
+  void testMatch_other() {
+    final StringReader reader = StringReader.create("héllo wörld");
+    assertEquals("héllo", reader.stringPacked(StringPattern.compile("[^ ]+").match(reader)));
+    assertTrue(StringPattern.compile("h.llo").matches("héllo"));
+    assertFalse(StringPattern.compile("\\w+").matches("héllo"));
+    assertTrue(StringPattern.compile("\\^a\\$").matches("^a$"));
+  }
+
+  @Test
+  void testMatch_utf8() {
+    // indexes of a utf-8 reader are byte offsets
+    final StringReader reader = Utf8StringReader.create(ByteBuffer.wrap("éé!".getBytes(StandardCharsets.UTF_8)));
+    assertEquals(StringRanges.pack(0, 4), StringPattern.compile("[^!]+").match(reader));
+    assertEquals(4, reader.index());
+    assertEquals(StringRanges.pack(4, 5), StringPattern.compile("!").match(reader));
+    assertEquals(-1, StringPattern.compile(".").match(reader));
+  }
+
+  @Test
+  void testMatch_lookahead() {
+    final StreamingStringReader reader = StreamingStringReader.create(new java.io.StringReader("abcdefgh ab"), 8, 4);
+    // the word continues past the lookahead, so the longest match is not known
+    assertThrows(StringReaderException.class, () -> StringPattern.compile("\\w+").match(reader));
+    assertEquals(StringRanges.pack(0, 4), StringPattern.compile("abcd").match(reader));
+    assertEquals(StringRanges.pack(4, 8), StringPattern.compile("e?f?g?h?").match(reader));
+    reader.skip();
+    assertEquals(StringRanges.pack(9, 11), StringPattern.compile("\\w+").match(reader));
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringRangeBufferTest {
+  @Test
+  void testAdd() {
+    final StringRangeBuffer buffer = StringRangeBuffer.create(1);
+    assertTrue(buffer.isEmpty());
+    buffer.add(0, 3);
+    buffer.add(StringRange.between(4, 7));
+    buffer.add(8, 9);
+    assertEquals(3, buffer.size());
+    assertEquals(4, buffer.start(1));
+    assertEquals(7, buffer.end(1));
+    assertEquals(StringRange.between(8, 9), buffer.get(2));
+    assertEquals(StringRanges.pack(0, 3), buffer.packed(0));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.add(-1, 0));
+  }
+
+  @Test
+  void testSearch() {
+    final StringRangeBuffer buffer = StringRangeBuffer.create();
+    buffer.add(0, 3);
+    buffer.add(4, 7);
+    buffer.add(10, 12);
+    assertEquals(0, buffer.search(0));
+    assertEquals(0, buffer.search(2));
+    assertEquals(-2, buffer.search(3));
+    assertEquals(1, buffer.search(4));
+    assertEquals(-3, buffer.search(8));
+    assertEquals(2, buffer.search(11));
+    assertEquals(-4, buffer.search(12));
+  }
+
+  @Test
+  void testMerge() {
+    final StringRangeBuffer buffer = StringRangeBuffer.create();
+    buffer.add(8, 9);
+    buffer.add(0, 3);
+    buffer.add(2, 5);
+    buffer.add(5, 6);
+    buffer.add(12, 14);
+    buffer.add(12, 13);
+    buffer.merge();
+    assertEquals(3, buffer.size());
+    assertEquals(StringRange.between(0, 6), buffer.get(0));
+    assertEquals(StringRange.between(8, 9), buffer.get(1));
+    assertEquals(StringRange.between(12, 14), buffer.get(2));
+  }
+
+  @Test
+  void testIterator() {
+    final StringRangeBuffer buffer = StringRangeBuffer.create();
+    buffer.add(0, 3);
+    buffer.add(4, 7);
+    final List<StringRange> ranges = new ArrayList<>();
+    for(final StringRange range : buffer) {
+      ranges.add(StringRange.between(range.start(), range.end()));
+    }
+    assertEquals(Arrays.asList(StringRange.between(0, 3), StringRange.between(4, 7)), ranges);
+  }
+
+  @Test
+  void testClear() {
+    final StringRangeBuffer buffer = StringRangeBuffer.create();
+    buffer.add(0, 3);
+    buffer.clear();
+    assertTrue(buffer.isEmpty());
+    assertEquals(-1, buffer.search(1));
+  }
+}
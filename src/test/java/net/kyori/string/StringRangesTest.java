@@ -0,0 +1,74 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringRangesTest {
+  @Test
+  void testSanity() {
+    assertThrows(IndexOutOfBoundsException.class, () -> StringRanges.pack(-1, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> StringRanges.pack(0, -1));
+  }
+
+  @Test
+  void testPack() {
+    final long range = StringRanges.pack(3, Integer.MAX_VALUE);
+    assertEquals(3, StringRanges.start(range));
+    assertEquals(Integer.MAX_VALUE, StringRanges.end(range));
+  }
+
+  @Test
+  void testPack_range() {
+    final long range = StringRanges.pack(StringRange.between(1, 4));
+    assertEquals(1, StringRanges.start(range));
+    assertEquals(4, StringRanges.end(range));
+    assertEquals(StringRange.between(1, 4), StringRanges.unpack(range));
+  }
+
+  @Test
+  void testEmpty() {
+    assertTrue(StringRanges.isEmpty(StringRanges.pack(2, 2)));
+    assertFalse(StringRanges.isEmpty(StringRanges.pack(2, 3)));
+  }
+
+  @Test
+  void testExpand() {
+    final long range = StringRanges.expand(StringRanges.pack(0, 3), StringRanges.pack(1, 6));
+    assertEquals(0, StringRanges.start(range));
+    assertEquals(6, StringRanges.end(range));
+  }
+
+  @Test
+  void testString() {
+    final StringReader reader = StringReader.create("foo bar");
+    assertEquals("bar", reader.stringPacked(StringRanges.pack(4, 7)));
+    assertEquals("foo", reader.viewPacked(StringRanges.pack(0, 3)).toString());
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StringReaderPoolTest {
+  @Test
+  void testSanity() {
+    assertThrows(IllegalArgumentException.class, () -> StringReaderPool.bounded(0));
+    assertThrows(IndexOutOfBoundsException.class, () -> StringReaderPool.bounded(1).acquire(new char[3], 2, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> StringReaderPool.threadLocal().acquire(new char[3], 2, 2));
+  }
+
+  @Test
+  void testReset() {
+    final StringReaderImpl reader = new StringReaderImpl("foo");
+    reader.skip(2);
+    assertEquals(1, reader.lineOf(2));
+    reader.reset("bar\nbaz");
+    assertEquals(0, reader.index());
+    assertEquals("bar\nbaz", reader.asString());
+    assertEquals(2, reader.lineOf(4));
+  }
+
+  @Test
+  void testBounded() {
+    final StringReaderPool pool = StringReaderPool.bounded(1);
+    final StringReader first = pool.acquire("foo");
+    first.skip();
+    final StringReader second = pool.acquire("bar");
+    assertNotSame(first, second);
+    pool.release(first);
+    pool.release(second); // the pool is full, so this is dropped
+    final StringReader third = pool.acquire("baz");
+    assertSame(first, third);
+    assertEquals(0, third.index());
+    assertEquals("baz", third.asString());
+    assertNotSame(first, pool.acquire("qux"));
+  }
+
+  @Test
+  void testBounded_release() {
+    final StringReaderPool pool = StringReaderPool.bounded(2);
+    final StringReader first = pool.acquire("foo");
+    pool.release(first);
+    pool.release(first); // already released, so this is ignored
+    pool.release(StringReader.create("bar")); // not from this pool
+    pool.release(StringReaderPool.bounded(1).acquire("baz"));
+    final StringReader second = pool.acquire("qux");
+    assertSame(first, second);
+    assertNotSame(second, pool.acquire("quux"));
+    assertEquals("qux", second.asString());
+  }
+
+  @Test
+  void testBounded_chars() {
+    final StringReaderPool pool = StringReaderPool.bounded(1);
+    final StringReader first = pool.acquire("<foo>".toCharArray(), 1, 3);
+    assertEquals("foo", first.asString());
+    first.skip();
+    pool.release(first);
+    final StringReader second = pool.acquire("bar".toCharArray(), 0, 3);
+    assertSame(first, second);
+    assertEquals(0, second.index());
+    assertEquals('b', second.next());
+    assertEquals("bar", second.asString());
+  }
+
+  @Test
+  void testQuoted() {
+    final StringReaderPool pool = StringReaderPool.bounded(1);
+    StringReader reader = pool.acquire("\"a\\\"b\"");
+    assertEquals("a\"b", reader.readQuoted());
+    pool.release(reader);
+    reader = pool.acquire("\"c\\\\d\"");
+    assertEquals("c\\d", reader.readQuoted());
+  }
+
+  @Test
+  void testThreadLocal() {
+    final StringReaderPool pool = StringReaderPool.threadLocal();
+    final StringReader first = pool.acquire("foo");
+    final StringReader nested = pool.acquire("bar");
+    assertNotSame(first, nested);
+    assertEquals("bar", nested.asString());
+    pool.release(nested);
+    pool.release(first);
+    final StringReader second = pool.acquire("baz");
+    assertSame(first, second);
+    assertEquals("baz", second.asString());
+    final StringReader chars = pool.acquire("qux".toCharArray(), 0, 3);
+    pool.release(chars);
+    assertSame(chars, pool.acquire("quux".toCharArray(), 1, 2));
+    pool.release(chars);
+    pool.release(chars); // already released, so this is ignored
+    assertSame(chars, pool.acquire("foo".toCharArray(), 0, 3));
+    assertNotSame(chars, pool.acquire("bar".toCharArray(), 0, 3));
+  }
+}
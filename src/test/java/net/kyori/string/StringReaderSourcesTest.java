@@ -0,0 +1,216 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringReaderSourcesTest {
+  static List<StringReader> readers(final String string) {
+    final char[] padded = ("<<" + string + ">>").toCharArray();
+    final CharBuffer buffer = CharBuffer.wrap(padded);
+    buffer.position(2);
+    buffer.limit(2 + string.length());
+    return Arrays.asList(
+      StringReader.create(string),
+      StringReader.create(string.toCharArray()),
+      StringReader.create(padded, 2, string.length()),
+      StringReader.create(buffer),
+      StringReader.create(buffer.asReadOnlyBuffer()),
+      StringReader.create(new StringBuilder(string))
+    );
+  }
+
+  @Test
+  void testSanity() {
+    assertThrows(IndexOutOfBoundsException.class, () -> StringReader.create(new char[3], 2, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> StringReader.create(new char[3], -1, 2));
+  }
+
+  @Test
+  void testString() {
+    for(final StringReader reader : readers("foo bar")) {
+      assertEquals("foo bar", reader.asString());
+      assertEquals(7, reader.length());
+      assertEquals("bar", reader.string(4, 7));
+      assertEquals("foo", reader.view(0, 3).toString());
+      assertThrows(IndexOutOfBoundsException.class, () -> reader.string(4, 8));
+    }
+  }
+
+  @Test
+  void testRead() {
+    for(final StringReader reader : readers("foo")) {
+      assertEquals('f', reader.peek());
+      assertEquals('o', reader.peek(2));
+      assertThrows(IndexOutOfBoundsException.class, () -> reader.peek(3));
+      assertEquals('f', reader.next());
+      assertEquals('o', reader.next());
+      assertEquals('o', reader.next());
+      assertFalse(reader.readable());
+      assertThrows(IndexOutOfBoundsException.class, reader::next);
+      assertThrows(IndexOutOfBoundsException.class, reader::peek);
+      assertEquals(3, reader.index());
+    }
+  }
+
+  @Test
+  void testSkip() {
+    for(final StringReader reader : readers("  foo,bar")) {
+      reader.skipWhitespace();
+      assertEquals(2, reader.index());
+      reader.skipUntil(',');
+      assertEquals(5, reader.index());
+      reader.skip(character -> character != 'r');
+      assertEquals(8, reader.index());
+      reader.skip(2);
+      assertEquals(10, reader.index());
+      assertEquals(-1, reader.remaining());
+    }
+  }
+
+  @Test
+  void testIndexOf() {
+    for(final StringReader reader : readers("key=value;é,x")) {
+      assertEquals(3, reader.indexOf('='));
+      assertEquals(3, reader.indexOfAny(';', '='));
+      assertEquals(10, reader.indexOfAny('é'));
+      assertEquals(-1, reader.indexOf('!'));
+      assertEquals(-1, reader.indexOfAny('!', '?', 'ü'));
+      reader.skipUntilAny(';', ',');
+      assertEquals(9, reader.index());
+      reader.skip();
+      reader.skipUntilAny(',', 'é');
+      assertEquals(10, reader.index());
+      reader.skipUntilAny('!', '?');
+      assertEquals(13, reader.index());
+      assertEquals(-1, reader.indexOf('x'));
+    }
+  }
+
+  @Test
+  void testReadTyped() {
+    for(final StringReader reader : readers("12 -3.5 true \"a \\\"b\\\"\" c")) {
+      assertEquals(12, reader.readInt());
+      reader.skip();
+      assertEquals(-3.5, reader.readDouble());
+      reader.skip();
+      assertTrue(reader.readBoolean());
+      reader.skip();
+      assertEquals("a \"b\"", reader.readQuoted());
+      reader.skip();
+      assertEquals("c", reader.readQuotedOrUnquoted());
+      assertThrows(StringReaderException.class, reader::readLong);
+    }
+  }
+
+  @Test
+  void testReadBoolean() {
+    for(final StringReader reader : readers("trueish false1 true,false")) {
+      assertEquals(StringRange.between(0, 7), assertThrows(StringReaderException.class, reader::readBoolean).range());
+      assertEquals(0, reader.index());
+      reader.index(8);
+      assertEquals(StringRange.between(8, 14), assertThrows(StringReaderException.class, reader::readBoolean).range());
+      reader.index(15);
+      assertTrue(reader.readBoolean());
+      reader.skip();
+      assertFalse(reader.readBoolean());
+      assertFalse(reader.readable());
+    }
+  }
+
+  @Test
+  void testReadQuoted() {
+    for(final StringReader reader : readers("\"plain\" \"\" \"x\\q\" \"open")) {
+      assertEquals("plain", reader.readQuoted());
+      reader.skip();
+      assertEquals("", reader.readQuoted());
+      reader.skip();
+      assertEquals(StringRange.between(13, 15), assertThrows(StringReaderException.class, reader::readQuoted).range());
+      assertEquals(11, reader.index());
+      reader.index(17);
+      assertEquals(StringRange.between(17, 22), assertThrows(StringReaderException.class, reader::readQuoted).range());
+      assertEquals(17, reader.index());
+    }
+    final StringReader utf8 = Utf8StringReader.create(ByteBuffer.wrap("\"é😀\" \"\\\"€\"".getBytes(StandardCharsets.UTF_8)));
+    assertEquals("é😀", utf8.readQuoted());
+    utf8.skip();
+    assertEquals("\"€", utf8.readQuoted());
+    assertFalse(utf8.readable());
+    // the escape is at byte 3, and the escaped character takes two bytes
+    final StringReader escape = Utf8StringReader.create(ByteBuffer.wrap("\"ab\\é\" \"\\\\\"".getBytes(StandardCharsets.UTF_8)));
+    assertEquals(StringRange.between(3, 6), assertThrows(StringReaderException.class, escape::readQuoted).range());
+    assertEquals(0, escape.index());
+    escape.index(8);
+    assertEquals("\\", escape.readQuoted());
+  }
+
+  @Test
+  void testCopy() {
+    for(final StringReader a : readers("foo")) {
+      assertEquals('f', a.next());
+      final StringReader b = a.copy();
+      assertEquals('o', b.next());
+      assertEquals(1, a.index());
+      assertEquals(2, b.index());
+    }
+  }
+
+  @Test
+  void testUnchecked() {
+    for(final StringReader reader : readers("foo")) {
+      assertTrue(reader.readable(3));
+      assertEquals('f', reader.peekUnchecked());
+      assertEquals('o', reader.peekUnchecked(2));
+      assertEquals('f', reader.nextUnchecked());
+      assertEquals('o', reader.nextUnchecked());
+      assertEquals(2, reader.index());
+    }
+  }
+
+  @Test
+  void testTry() {
+    for(final StringReader reader : readers("ab")) {
+      assertEquals('a', reader.tryPeek());
+      assertEquals('b', reader.tryPeek(1));
+      assertEquals(-1, reader.tryPeek(2));
+      assertEquals(-1, reader.tryPeek(-1));
+      assertEquals('a', reader.tryNext());
+      assertEquals('b', reader.tryNext());
+      assertEquals(-1, reader.tryNext());
+      assertEquals(-1, reader.tryPeek());
+      assertEquals(2, reader.index());
+    }
+  }
+}
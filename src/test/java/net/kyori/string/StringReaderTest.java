@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -84,6 +85,48 @@ class StringReaderTest {
     assertEquals('b', reader.peek());
   }
 
+  @Test
+  void testMark() {
+    final StringReader reader = StringReader.create("abc");
+    reader.skip();
+    final long mark = reader.mark();
+    reader.skip(2);
+    assertFalse(reader.readable());
+    reader.reset(mark);
+    assertEquals('b', reader.next());
+  }
+
+  @Test
+  void testAttempt() {
+    final StringReader reader = StringReader.create("foo 12");
+    assertNull(reader.attempt(r -> {
+      r.readUnquoted();
+      return null;
+    }));
+    assertEquals(0, reader.index());
+    assertEquals("foo", reader.attempt(StringReader::readUnquoted));
+    assertEquals(3, reader.index());
+  }
+
+  @Test
+  void testAttempt_throws() {
+    final StringReader reader = StringReader.create("foo 12");
+    assertThrows(StringReaderException.class, () -> reader.attempt(r -> {
+      r.skip();
+      return r.readInt();
+    }));
+    assertEquals(0, reader.index());
+  }
+
+  @Test
+  void testException() {
+    final StringReaderException exception = new StringReaderException("foo", StringRange.between(1, 2));
+    assertEquals("foo", exception.getMessage());
+    assertEquals(StringRange.between(1, 2), exception.range());
+    assertTrue(exception.getStackTrace().length > 0);
+    assertEquals(0, new StringReaderException("foo", StringRange.between(1, 2), false).getStackTrace().length);
+  }
+
   @Test
   void testReadable() {
     final String string = "foo";
@@ -124,6 +167,38 @@ class StringReaderTest {
     assertEquals('r', reader.next());
   }
 
+  @Test
+  void testSkip_predicateEnd() {
+    final StringReader reader = StringReader.create("foo");
+    reader.skip(character -> true);
+    assertEquals(3, reader.index());
+    assertFalse(reader.readable());
+  }
+
+  @Test
+  void testSkipWhitespace() {
+    final StringReader reader = StringReader.create(" \t foo  ");
+    reader.skipWhitespace();
+    assertEquals('f', reader.peek());
+    reader.skipWhitespace();
+    assertEquals(3, reader.index());
+    reader.skip(3);
+    reader.skipWhitespace();
+    assertEquals(8, reader.index());
+  }
+
+  @Test
+  void testSkipUntil() {
+    final StringReader reader = StringReader.create("foo,bar");
+    reader.skipUntil(',');
+    assertEquals(3, reader.index());
+    reader.skipUntil(',');
+    assertEquals(3, reader.index()); // the matching character is not skipped
+    reader.skip();
+    reader.skipUntil(',');
+    assertEquals(7, reader.index());
+  }
+
   @Test
   void testPeek() {
     final StringReader reader = StringReader.create("foo");
@@ -158,6 +233,128 @@ class StringReaderTest {
     assertEquals(1, reader.index());
   }
 
+  @Test
+  void testReadInt() {
+    final StringReader reader = StringReader.create("123 -45 +6 2147483647 -2147483648x");
+    assertEquals(123, reader.readInt());
+    reader.skip();
+    assertEquals(-45, reader.readInt());
+    reader.skip();
+    assertEquals(6, reader.readInt());
+    reader.skip();
+    assertEquals(Integer.MAX_VALUE, reader.readInt());
+    reader.skip();
+    assertEquals(Integer.MIN_VALUE, reader.readInt());
+    assertEquals('x', reader.peek());
+  }
+
+  @Test
+  void testReadInt_invalid() {
+    final StringReader reader = StringReader.create("a 2147483648 -");
+    assertEquals(StringRange.between(0, 0), assertThrows(StringReaderException.class, reader::readInt).range());
+    reader.skip(2);
+    assertEquals(StringRange.between(2, 12), assertThrows(StringReaderException.class, reader::readInt).range());
+    assertEquals(2, reader.index());
+    reader.skip(11);
+    assertThrows(StringReaderException.class, reader::readInt);
+    assertEquals(13, reader.index());
+  }
+
+  @Test
+  void testReadLong() {
+    final StringReader reader = StringReader.create("9223372036854775807,-9223372036854775808,9223372036854775808");
+    assertEquals(Long.MAX_VALUE, reader.readLong());
+    reader.skip();
+    assertEquals(Long.MIN_VALUE, reader.readLong());
+    reader.skip();
+    assertThrows(StringReaderException.class, reader::readLong);
+    assertEquals(41, reader.index());
+  }
+
+  @Test
+  void testReadDouble() {
+    final StringReader reader = StringReader.create("1.5 -0.001 .25 3e2 1E-3 12345678901234567890.5 1e400 2.");
+    assertEquals(1.5, reader.readDouble());
+    reader.skip();
+    assertEquals(-0.001, reader.readDouble());
+    reader.skip();
+    assertEquals(0.25, reader.readDouble());
+    reader.skip();
+    assertEquals(300, reader.readDouble());
+    reader.skip();
+    assertEquals(0.001, reader.readDouble());
+    reader.skip();
+    assertEquals(12345678901234567890.5, reader.readDouble());
+    reader.skip();
+    assertEquals(Double.POSITIVE_INFINITY, reader.readDouble());
+    reader.skip();
+    assertEquals(2, reader.readDouble());
+    assertFalse(reader.readable());
+  }
+
+  @Test
+  void testReadDouble_invalid() {
+    final StringReader reader = StringReader.create("-.e5");
+    assertEquals(StringRange.between(0, 4), assertThrows(StringReaderException.class, reader::readDouble).range());
+    assertEquals(0, reader.index());
+    final StringReader exponent = StringReader.create("4e");
+    assertEquals(4, exponent.readDouble());
+    assertEquals('e', exponent.peek());
+  }
+
+  @Test
+  void testReadBoolean() {
+    final StringReader reader = StringReader.create("true false maybe");
+    assertTrue(reader.readBoolean());
+    reader.skip();
+    assertFalse(reader.readBoolean());
+    reader.skip();
+    assertEquals(StringRange.between(11, 16), assertThrows(StringReaderException.class, reader::readBoolean).range());
+    assertEquals(11, reader.index());
+  }
+
+  @Test
+  void testReadUnquoted() {
+    final StringReader reader = StringReader.create("foo bar");
+    assertEquals("foo", reader.readUnquoted());
+    assertEquals("", reader.readUnquoted());
+    reader.skip();
+    assertEquals("bar", reader.readUnquoted());
+    assertEquals("", reader.readUnquoted());
+  }
+
+  @Test
+  void testReadQuoted() {
+    final StringReader reader = StringReader.create("\"foo bar\" \"a \\\"b\\\" \\\\c\" 'd!''");
+    assertEquals("foo bar", reader.readQuoted());
+    assertEquals(9, reader.index());
+    reader.skip();
+    assertEquals("a \"b\" \\c", reader.readQuoted());
+    reader.skip();
+    assertEquals("d'", reader.readQuoted('\'', '!'));
+    assertFalse(reader.readable());
+  }
+
+  @Test
+  void testReadQuoted_invalid() {
+    final StringReader reader = StringReader.create("foo \"a\\b\" \"bar");
+    assertEquals(StringRange.between(0, 0), assertThrows(StringReaderException.class, reader::readQuoted).range());
+    reader.skip(4);
+    assertEquals(StringRange.between(6, 8), assertThrows(StringReaderException.class, reader::readQuoted).range());
+    assertEquals(4, reader.index());
+    reader.skip(6);
+    assertEquals(StringRange.between(10, 14), assertThrows(StringReaderException.class, reader::readQuoted).range());
+    assertEquals(10, reader.index());
+  }
+
+  @Test
+  void testReadQuotedOrUnquoted() {
+    final StringReader reader = StringReader.create("\"foo bar\" baz");
+    assertEquals("foo bar", reader.readQuotedOrUnquoted());
+    reader.skip();
+    assertEquals("baz", reader.readQuotedOrUnquoted());
+  }
+
   @Test
   void testCopy() {
     final StringReader a = StringReader.create("foo");
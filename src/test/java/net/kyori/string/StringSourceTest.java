@@ -0,0 +1,153 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringSourceTest {
+  @Test
+  void testReader() {
+    for(final StringSource source : new StringSource[]{StringSource.of("foo bar"), StringSource.of("foo bar".toCharArray()), StringSource.of(new StringBuilder("foo bar"))}) {
+      assertEquals(7, source.length());
+      assertEquals('b', source.charAt(4));
+      assertEquals("foo bar", source.toString());
+      final StringReader first = source.reader();
+      final StringReader second = source.reader();
+      first.skipUntil(' ');
+      assertEquals(3, first.index());
+      assertEquals(0, second.index());
+      assertEquals("foo bar", second.asString());
+      assertEquals("bar", first.copy().string(4, 7));
+    }
+  }
+
+  @Test
+  void testOf() {
+    final StringSource source = StringSource.of("foo");
+    assertSame(source, StringSource.of((CharSequence) source));
+    assertEquals("foo", StringReader.create(source).asString());
+  }
+
+  @Test
+  void testLines() {
+    final StringSource source = StringSource.of("a\nbb\nccc");
+    assertEquals(2, source.reader().lineOf(3));
+    assertEquals(4, source.reader().columnOf(8)); // the end of the last line
+    assertEquals(LineColumnRange.of(1, 2, 3, 1), source.reader().rangeToLineColumn(StringRange.between(1, 5)));
+  }
+
+  @Test
+  void testConcurrent() throws ExecutionException, InterruptedException {
+    final StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 1000; i++) {
+      sb.append(i).append('\n');
+    }
+    final StringSource source = StringSource.of(sb.toString());
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for(int thread = 0; thread < 4; thread++) {
+        final int first = thread * 250;
+        futures.add(executor.submit(() -> {
+          final StringReader reader = source.reader();
+          // skip to the first line of this thread's region
+          for(int line = 0; line < first; line++) {
+            reader.skipUntil('\n');
+            reader.skip();
+          }
+          int sum = 0;
+          for(int line = first; line < first + 250; line++) {
+            assertEquals(line + 1, reader.lineOf(reader.index()));
+            sum += reader.readInt();
+            reader.skip();
+          }
+          return sum;
+        }));
+      }
+      int sum = 0;
+      for(final Future<Integer> future : futures) {
+        sum += future.get();
+      }
+      assertEquals(999 * 1000 / 2, sum);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testSplit() {
+    assertThrows(IllegalArgumentException.class, () -> StringSource.of("").split(CharMatcher.is('\n'), 0));
+    final String string = "a\nbb\nccc\ndddd\neeeee";
+    for(final StringSource source : new StringSource[]{StringSource.of(string), StringSource.of(string.toCharArray())}) {
+      final List<String> chunks = StreamSupport.stream(source.split(CharMatcher.is('\n'), 3), false)
+        .map(StringReader::asString)
+        .collect(Collectors.toList());
+      assertEquals(Arrays.asList("a\nbb\n", "ccc\n", "dddd\n", "eeeee"), chunks);
+    }
+  }
+
+  @Test
+  void testSplit_parallel() {
+    final StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 10000; i++) {
+      sb.append(i).append('\n');
+    }
+    final StringSource source = StringSource.of(sb.toString());
+    final List<Integer> firsts = StreamSupport.stream(source.split(CharMatcher.is('\n'), 256), true)
+      .map(reader -> {
+        assertEquals(0, reader.index());
+        return reader.readInt();
+      })
+      .collect(Collectors.toList());
+    for(int i = 1; i < firsts.size(); i++) {
+      assertTrue(firsts.get(i - 1) < firsts.get(i)); // chunks are in order
+    }
+    final int sum = StreamSupport.stream(source.split(CharMatcher.is('\n'), 256), true)
+      .mapToInt(reader -> {
+        int chunk = 0;
+        while(reader.readable()) {
+          chunk += reader.readInt();
+          reader.skip();
+        }
+        return chunk;
+      })
+      .sum();
+    assertEquals(9999 * 10000 / 2, sum);
+  }
+}
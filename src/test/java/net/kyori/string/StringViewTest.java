@@ -0,0 +1,83 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringViewTest {
+  @Test
+  void testSanity() {
+    assertThrows(IndexOutOfBoundsException.class, () -> StringView.of("foo", -1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> StringView.of("foo", 0, 4));
+    assertThrows(IndexOutOfBoundsException.class, () -> StringView.of("foo", 2, 1));
+  }
+
+  @Test
+  void testView() {
+    final StringReader reader = StringReader.create("foo bar");
+    final StringView view = reader.view(StringRange.between(4, 7));
+    assertEquals(3, view.length());
+    assertEquals('b', view.charAt(0));
+    assertEquals('r', view.charAt(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> view.charAt(3));
+    assertEquals("bar", view.toString());
+  }
+
+  @Test
+  void testSubSequence() {
+    final StringView view = StringView.of("foo bar", 4, 7);
+    final StringView sub = view.subSequence(1, 3);
+    assertEquals(5, sub.start());
+    assertEquals(7, sub.end());
+    assertEquals("ar", sub.toString());
+    assertThrows(IndexOutOfBoundsException.class, () -> view.subSequence(1, 4));
+  }
+
+  @Test
+  void testContentEquals() {
+    final StringView view = StringView.of("foo bar", 0, 3);
+    assertTrue(view.contentEquals("foo"));
+    assertTrue(view.contentEquals(new StringBuilder("foo")));
+    assertFalse(view.contentEquals("fo"));
+    assertFalse(view.contentEquals("bar"));
+  }
+
+  @Test
+  void testEquals() {
+    assertEquals(StringView.of("foo bar", 0, 3), StringView.of("a foo", 2, 5));
+    assertNotEquals(StringView.of("foo bar", 0, 3), StringView.of("foo bar", 4, 7));
+  }
+
+  @Test
+  void testHashCode() {
+    assertEquals("foo".hashCode(), StringView.of("a foo", 2, 5).hashCode());
+    assertEquals("".hashCode(), StringView.of("foo", 1, 1).hashCode());
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenInternerTest {
+  @Test
+  void testSanity() {
+    assertThrows(IllegalArgumentException.class, () -> TokenInterner.create(0));
+    assertThrows(IllegalArgumentException.class, () -> TokenInterner.create((1 << 30) + 1));
+    assertThrows(IllegalArgumentException.class, () -> TokenInterner.create(Integer.MAX_VALUE));
+    final TokenInterner interner = TokenInterner.create(16);
+    assertThrows(IndexOutOfBoundsException.class, () -> interner.intern("foo", 2, 4));
+    assertThrows(IndexOutOfBoundsException.class, () -> interner.intern("foo".toCharArray(), 2, 1));
+  }
+
+  @Test
+  void testIntern() {
+    final TokenInterner interner = TokenInterner.create(16);
+    final String foo = interner.intern("foo bar foo", 0, 3);
+    assertEquals("foo", foo);
+    assertSame(foo, interner.intern("foo bar foo", 8, 11));
+    assertSame(foo, interner.intern("a foo".toCharArray(), 2, 5));
+    assertSame(foo, interner.intern(new StringBuilder("foo")));
+    assertEquals("bar", interner.intern("foo bar foo", 4, 7));
+    assertEquals("", interner.intern("foo", 1, 1));
+    assertEquals(3, interner.size());
+    assertEquals(3, interner.hits());
+    assertEquals(3, interner.misses());
+    interner.clear();
+    assertEquals(0, interner.size());
+    assertEquals(0, interner.hits());
+    assertNotSame(foo, interner.intern("foo"));
+  }
+
+  @Test
+  void testEviction() {
+    final TokenInterner interner = TokenInterner.create(8);
+    final String kept = interner.intern("kept");
+    for(int i = 0; i < 1000; i++) {
+      interner.intern("token" + i);
+      assertSame(kept, interner.intern("kept")); // referenced on every sweep, so never evicted
+    }
+    assertTrue(interner.size() <= 8);
+    // the table holds at least 8 strings, whatever the capacity
+    final TokenInterner small = TokenInterner.create(1);
+    for(int i = 0; i < 8; i++) {
+      small.intern(Integer.toString(i));
+    }
+    assertTrue(small.size() > 1);
+    assertTrue(small.size() <= 8);
+  }
+
+  @Test
+  void testReader() {
+    final TokenInterner interner = TokenInterner.create(16);
+    for(final StringReader reader : StringReaderSourcesTest.readers("say hi, say bye")) {
+      final String say = reader.intern(StringRange.between(0, 3), interner);
+      assertEquals("say", say);
+      assertSame(say, reader.intern(StringRange.between(8, 11), interner));
+      assertThrows(IndexOutOfBoundsException.class, () -> reader.intern(StringRange.between(12, 16), interner));
+    }
+  }
+}
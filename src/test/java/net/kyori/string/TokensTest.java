@@ -0,0 +1,88 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokensTest {
+  @Test
+  void testTokens() {
+    for(final StringReader reader : StringReaderSourcesTest.readers("  foo bar  baz ")) {
+      assertEquals(
+        Arrays.asList(StringRange.between(2, 5), StringRange.between(6, 9), StringRange.between(11, 14)),
+        reader.copy().tokens(Character::isWhitespace).collect(Collectors.toList())
+      );
+      assertEquals(Arrays.asList("foo", "bar", "baz"), reader.tokens(CharMatcher.whitespace()).map(reader::string).collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  void testTokens_empty() {
+    assertEquals(Collections.emptyList(), StringReader.create("").tokens(Character::isWhitespace).collect(Collectors.toList()));
+    assertEquals(Collections.emptyList(), StringReader.create(",,,").tokens(CharMatcher.is(',')).collect(Collectors.toList()));
+  }
+
+  @Test
+  void testTokens_lazy() {
+    final StringReader reader = StringReader.create("a,b,c,d");
+    assertEquals(StringRange.between(2, 3), reader.tokens(CharMatcher.is(',')).skip(1).findFirst().orElse(null));
+    assertEquals(3, reader.index()); // only the tokens needed were read
+    assertEquals("c", reader.string(reader.tokens(CharMatcher.is(',')).limit(1).findFirst().get()));
+  }
+
+  @Test
+  void testPackedTokens() {
+    final StringReader reader = StringReader.create("foo,bar,,baz");
+    final long[] ranges = reader.packedTokens(CharMatcher.is(',')).toArray();
+    assertArrayEquals(new long[]{StringRanges.pack(0, 3), StringRanges.pack(4, 7), StringRanges.pack(9, 12)}, ranges);
+  }
+
+  @Test
+  void testTokenize() {
+    final StringReader reader = StringReader.create("12 34 x");
+    assertEquals(Arrays.asList("12", "34"), reader.tokenize(r -> {
+      r.skipWhitespace();
+      return r.readable() && Character.isDigit(r.peek()) ? r.read(CharMatcher.digit()) : null;
+    }).map(reader::string).collect(Collectors.toList()));
+    assertEquals(6, reader.index());
+    assertThrows(IllegalStateException.class, () -> StringReader.create("x").tokenize(r -> r.read(CharMatcher.digit())).count());
+  }
+
+  @Test
+  void testTokenize_distinct() {
+    // ranges returned by the function may repeat
+    assertEquals(1, StringReader.create("abc").tokenize(r -> {
+      r.skip();
+      return StringRange.between(0, 0);
+    }).distinct().count());
+  }
+}
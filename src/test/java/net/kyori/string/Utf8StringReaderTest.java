@@ -0,0 +1,191 @@
+/*
+ * This file is part of string, licensed under the MIT License.
+ *
+ * Copyright (c) 2018 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.string;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Utf8StringReaderTest {
+  private static Utf8StringReader create(final String string) {
+    return Utf8StringReader.create(ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void testAscii() {
+    final Utf8StringReader reader = create("foo bar");
+    assertEquals(7, reader.length());
+    assertEquals("foo bar", reader.asString());
+    assertEquals("foo", reader.readUnquoted());
+    reader.skipWhitespace();
+    assertEquals('b', reader.peek());
+    assertEquals('r', reader.peek(2));
+    assertEquals("bar", reader.string(StringRange.between(reader.index(), reader.length())));
+  }
+
+  @Test
+  void testMultiByte() {
+    // 1, 2, 3 and 4 byte encodings
+    final Utf8StringReader reader = create("aé€😀b");
+    assertEquals(11, reader.length());
+    assertEquals('a', reader.next());
+    assertEquals(1, reader.index());
+    assertEquals('é', reader.next());
+    assertEquals(3, reader.index());
+    assertEquals('€', reader.peek());
+    assertEquals('\ud83d', reader.peek(1));
+    assertEquals('\ude00', reader.peek(2));
+    assertEquals('b', reader.peek(3));
+    assertEquals('€', reader.next());
+    assertEquals('\ud83d', reader.next());
+    assertEquals(6, reader.index()); // the index advances once both surrogates are read
+    assertEquals('\ude00', reader.next());
+    assertEquals(10, reader.index());
+    assertEquals('b', reader.next());
+    assertFalse(reader.readable());
+    assertThrows(IndexOutOfBoundsException.class, reader::next);
+    assertEquals("€😀", reader.string(3, 10));
+  }
+
+  @Test
+  void testReadable() {
+    // readable counts characters, not bytes
+    final Utf8StringReader reader = create("é€😀");
+    assertEquals(9, reader.length());
+    assertTrue(reader.readable(4));
+    assertFalse(reader.readable(5));
+    assertEquals('\ude00', reader.peek(3));
+    reader.skip(3);
+    assertTrue(reader.readable(1));
+    assertFalse(reader.readable(2));
+    reader.skip();
+    assertFalse(reader.readable());
+    assertTrue(reader.readable(0));
+  }
+
+  @Test
+  void testTry() {
+    final Utf8StringReader reader = create("é😀");
+    assertEquals('é', reader.tryPeek());
+    assertEquals('\ud83d', reader.tryPeek(1));
+    assertEquals('\ude00', reader.tryPeek(2));
+    assertEquals(-1, reader.tryPeek(3));
+    assertEquals(-1, reader.tryPeek(6));
+    assertEquals('é', reader.tryNext());
+    assertEquals('\ud83d', reader.tryNext());
+    assertEquals('\ude00', reader.tryNext());
+    assertEquals(-1, reader.tryNext());
+    assertEquals(-1, reader.tryPeek());
+    assertEquals(6, reader.index());
+  }
+
+  @Test
+  void testMark() {
+    final Utf8StringReader reader = create("a😀b");
+    reader.skip(2);
+    final long mark = reader.mark(); // between the surrogates
+    assertEquals('\ude00', reader.next());
+    assertEquals('b', reader.next());
+    reader.reset(mark);
+    assertEquals('\ude00', reader.next());
+    assertEquals(5, reader.index());
+  }
+
+  @Test
+  void testIndexOf() {
+    final Utf8StringReader reader = create("é😀=€,b");
+    assertEquals(6, reader.indexOf('='));
+    assertEquals(6, reader.indexOfAny(',', '='));
+    assertEquals(7, reader.indexOf('€'));
+    assertEquals(7, reader.indexOfAny('€', ','));
+    reader.skipUntilAny(',', '!');
+    assertEquals(10, reader.index());
+    reader.index(0);
+    reader.skipUntil('€');
+    assertEquals(7, reader.index());
+    assertEquals(-1, reader.indexOf('é'));
+  }
+
+  @Test
+  void testMalformed() {
+    final Utf8StringReader reader = Utf8StringReader.create(ByteBuffer.wrap(new byte[]{'a', (byte) 0x80, (byte) 0xc3, 'b'}));
+    assertEquals('a', reader.next());
+    assertEquals('�', reader.next());
+    assertEquals('�', reader.next());
+    assertEquals('b', reader.next());
+  }
+
+  @Test
+  void testPosition() {
+    final ByteBuffer buffer = ByteBuffer.wrap("xx12 true".getBytes(StandardCharsets.UTF_8));
+    buffer.position(2);
+    final Utf8StringReader reader = Utf8StringReader.create(buffer);
+    assertEquals(7, reader.length());
+    assertEquals(12, reader.readInt());
+    reader.skip();
+    assertEquals(true, reader.readBoolean());
+    assertEquals(2, buffer.position());
+  }
+
+  @Test
+  void testCharOffset() {
+    final StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < 5000; i++) {
+      sb.append(i % 3 == 0 ? "€" : i % 3 == 1 ? "😀" : "a");
+    }
+    final String string = sb.toString();
+    final Utf8StringReader reader = create(string);
+    for(int chars = 0, bytes = 0; chars < string.length(); chars++) {
+      final char c = string.charAt(chars);
+      if(Character.isLowSurrogate(c)) continue;
+      assertEquals(chars, reader.charOffset(bytes));
+      bytes += Character.isHighSurrogate(c) ? 4 : c == 'a' ? 1 : 3;
+    }
+    assertEquals(string.length(), reader.charOffset(reader.length()));
+    assertEquals(string.length(), reader.copy().charOffset(reader.length()));
+  }
+
+  @Test
+  void testMap() throws IOException {
+    final Path path = Files.createTempFile("string", ".txt");
+    try {
+      Files.write(path, "café \"au lait\"".getBytes(StandardCharsets.UTF_8));
+      final Utf8StringReader reader = Utf8StringReader.map(path);
+      assertEquals("café", reader.readUnquoted());
+      reader.skip();
+      assertEquals("au lait", reader.readQuoted());
+    } finally {
+      Files.delete(path);
+    }
+  }
+}